@@ -0,0 +1,41 @@
+@echo off
+rem Resident test runner:  run-daemon start ^| stop ^| ^<TestRunner args^>
+setlocal enabledelayedexpansion
+cd /d "%~dp0"
+
+set PLAYWRIGHT_SKIP_BROWSER_DOWNLOAD=true
+if "%DAEMON_PORT%"=="" set DAEMON_PORT=7171
+
+if /i not "%1"=="start" goto client
+
+echo [1/3] compile ...
+call mvn -q test-compile -DskipTests
+if errorlevel 1 goto fail
+
+echo [2/3] copy deps ...
+call mvn -q dependency:copy-dependencies ^
+          -DincludeScope=compile ^
+          -DincludeScope=test ^
+          -DoutputDirectory=target\dependency
+if errorlevel 1 goto fail
+
+call :classpath
+echo [3/3] start daemon on 127.0.0.1:%DAEMON_PORT% (log: target\daemon.log) ...
+start "test-daemon" /b cmd /c java -ea %JAVA_OPTS% -Ddaemon.port=%DAEMON_PORT% -cp "!CP!" core.TestDaemon ^> target\daemon.log 2^>^&1
+goto :eof
+
+:client
+call :classpath
+java -Ddaemon.port=%DAEMON_PORT% -cp "!CP!" core.DaemonClient %*
+exit /b %errorlevel%
+
+:classpath
+set "CP=target\classes;target\test-classes"
+for %%J in (target\dependency\*.jar) do (
+  set "CP=!CP!;%%~fJ"
+)
+goto :eof
+
+:fail
+echo BUILD FAILED
+exit /b 1
@@ -0,0 +1,41 @@
+#!/usr/bin/env bash
+# Resident test runner:  ./run-daemon.sh start | stop | <TestRunner args>
+#   ./run-daemon.sh ui --class BookingFlowTest --method happyPath
+set -euo pipefail
+cd "$(dirname "$0")"
+
+export PLAYWRIGHT_SKIP_BROWSER_DOWNLOAD=true
+PORT="${DAEMON_PORT:-7171}"
+
+if [ "${1:-}" = "start" ]; then
+  echo "[1/3] compile ..."
+  mvn -q test-compile -DskipTests
+
+  echo "[2/3] copy deps ..."
+  mvn -q dependency:copy-dependencies \
+         -DincludeScope=compile \
+         -DincludeScope=test \
+         -DoutputDirectory=target/dependency
+
+  CP="target/classes:target/test-classes"
+  for j in target/dependency/*.jar; do CP="$CP:$j"; done
+
+  echo "[3/3] start daemon on 127.0.0.1:$PORT (log: target/daemon.log) ..."
+  nohup java -ea ${JAVA_OPTS:-} -Ddaemon.port="$PORT" -cp "$CP" core.TestDaemon > target/daemon.log 2>&1 &
+  exit 0
+fi
+
+# thin client: one request line out, streamed output back, last line "@@exit <status>"
+if ! exec 3<>"/dev/tcp/127.0.0.1/$PORT"; then
+  echo "[daemon] not running on port $PORT – start it with ./run-daemon.sh start" >&2
+  exit 3
+fi
+printf '%s\n' "$*" >&3
+while IFS= read -r line <&3; do
+  case "$line" in
+    "@@exit "*) exit "${line#@@exit }" ;;
+  esac
+  printf '%s\n' "$line"
+done
+echo "[daemon] connection closed before the run finished" >&2
+exit 1
@@ -21,7 +21,7 @@ for %%J in (target\dependency\*.jar) do (
 )
 
 echo [3/3] run TestRunner %1 ...
-java -ea -cp "!CP!" api.tests.TestRunner %1
+java -ea %JAVA_OPTS% -cp "!CP!" api.tests.TestRunner %1
 goto :eof
 
 :fail
@@ -17,4 +17,4 @@ CP="target/classes:target/test-classes"
 for j in target/dependency/*.jar; do CP="$CP:$j"; done
 
 echo "[3/3] run TestRunner $1 ..."
-java -ea -cp "$CP" api.tests.TestRunner "${1:-}"
\ No newline at end of file
+java -ea ${JAVA_OPTS:-} -cp "$CP" api.tests.TestRunner "${1:-}"
\ No newline at end of file
@@ -5,4 +5,47 @@ public class Config {
     public static final String UI_URL = "https://automationintesting.online/#/admin";
     public static final String ADMIN_USERNAME = "admin";
     public static final String ADMIN_PASSWORD = "password";
+
+    /* ── UI execution (override with -Dkey=value or KEY_NAME env var) ── */
+
+    /** Number of parallel UI workers; 1 keeps the classic one-class-after-another run. */
+    public static final int UI_THREADS = intSetting("ui.threads", 1);
+    /** Launch Chromium without a window (recommended when UI_THREADS > 1). */
+    public static final boolean UI_HEADLESS = flag("ui.headless", false);
+    /** Root of the booking site used by every page object. */
+    public static final String UI_BASE_URL = setting("ui.baseUrl", "https://automationintesting.online");
+    /** Serve the booking site from the local stand-in (ui.stub.SiteStub) instead of UI_BASE_URL. */
+    public static final boolean UI_STUB = flag("ui.stub", false);
+    /** "fast" sets each field in one call (events included); "type" sends real keystrokes. */
+    public static final String UI_INPUT_MODE = setting("ui.input.mode", "fast");
+
+    /* ── API execution ── */
+
+    /** Run API test classes concurrently on virtual threads, one HTTP context each. */
+    public static final boolean API_CONCURRENT = flag("api.concurrent", false);
+    /** Point the API suite at the in-process restful-booker stand-in instead of API_BASE_URL. */
+    public static final boolean API_STUB = flag("api.stub", false);
+    /** Root of the restful-booker deployment (public service by default, e.g. a staging host). */
+    public static final String API_BASE_URL = setting("api.baseUrl", BASE_API_URL);
+    /** How long an /auth token is reused (restful-booker does not publish its lifetime). */
+    public static final int API_TOKEN_TTL_SEC = intSetting("api.token.ttlSec", 600);
+    /** A token this close to API_TOKEN_TTL_SEC is renewed by the next caller, before it runs out. */
+    public static final int API_TOKEN_REFRESH_AHEAD_SEC = intSetting("api.token.refreshAheadSec", 60);
+
+    /* ── helpers ── */
+
+    /** System property first, then environment variable (ui.threads → UI_THREADS), then default. */
+    public static String setting(String key, String def) {
+        String v = System.getProperty(key);
+        if (v == null) v = System.getenv(key.toUpperCase().replace('.', '_'));
+        return (v == null || v.isBlank()) ? def : v.trim();
+    }
+
+    public static int intSetting(String key, int def) {
+        return Integer.parseInt(setting(key, String.valueOf(def)));
+    }
+
+    public static boolean flag(String key, boolean def) {
+        return Boolean.parseBoolean(setting(key, String.valueOf(def)));
+    }
 }
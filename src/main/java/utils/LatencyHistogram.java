@@ -0,0 +1,100 @@
+package utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with log-linear buckets (about 1.5 % relative error).
+ *
+ * - Values are recorded in microseconds, from 1 µs up to about 38 hours; larger
+ *   values land in the last bucket, the exact maximum is kept separately.
+ * - Each power-of-two range is split into 64 equal sub-buckets, so p50/p95/p99
+ *   come out within one sub-bucket of the true value.
+ * - {@link #record} is safe to call from any number of threads.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BITS = 6;                 // 64 sub-buckets per power of two
+    private static final int SUB_COUNT = 1 << SUB_BITS;
+    private static final int RANGES = 32;                  // up to 64·2^31 µs ≈ 38 h
+
+    private final AtomicLongArray buckets = new AtomicLongArray(RANGES * SUB_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+    private final LongAccumulator maxMicros = new LongAccumulator(Math::max, 0);
+
+    public void recordNanos(long nanos) {
+        record(nanos / 1_000);
+    }
+
+    public void record(long micros) {
+        long v = Math.max(micros, 0);
+        buckets.incrementAndGet(index(v));
+        count.increment();
+        sumMicros.add(v);
+        maxMicros.accumulate(v);
+    }
+
+    public long count() {
+        return count.sum();
+    }
+
+    public long maxMicros() {
+        return maxMicros.get();
+    }
+
+    public long sumMicros() {
+        return sumMicros.sum();
+    }
+
+    public double meanMicros() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sumMicros.sum() / n;
+    }
+
+    /**
+     * Value at or below which {@code percentile} % of the samples fall,
+     * reported as the upper edge of its bucket (capped at the recorded maximum).
+     */
+    public long percentileMicros(double percentile) {
+        long n = count.sum();
+        if (n == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) return Math.min(upperEdge(i), maxMicros.get());
+        }
+        return maxMicros.get();
+    }
+
+    /**
+     * Samples whose bucket lies entirely at or below {@code micros} – the
+     * cumulative count of a Prometheus histogram bucket with that upper bound.
+     */
+    public long countAtOrBelow(long micros) {
+        long seen = 0;
+        for (int i = 0; i < buckets.length() && upperEdge(i) <= micros; i++) seen += buckets.get(i);
+        return seen;
+    }
+
+    /* ───────────────────────── bucket maths ───────────────────────── */
+
+    // range 0 holds 0..63 one by one; range r > 0 holds [64·2^(r-1), 64·2^r) in steps of 2^(r-1)
+    private static int index(long v) {
+        if (v < SUB_COUNT) return (int) v;
+        int range = 64 - Long.numberOfLeadingZeros(v) - SUB_BITS;
+        if (range >= RANGES) return RANGES * SUB_COUNT - 1;
+        int sub = (int) (v >>> (range - 1)) - SUB_COUNT;
+        return range * SUB_COUNT + sub;
+    }
+
+    private static long upperEdge(int index) {
+        int range = index / SUB_COUNT;
+        int sub = index % SUB_COUNT;
+        if (range == 0) return sub;
+        long step = 1L << (range - 1);
+        return (SUB_COUNT + sub + 1) * step - 1;
+    }
+}
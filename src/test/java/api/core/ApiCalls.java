@@ -0,0 +1,84 @@
+package api.core;
+
+import com.microsoft.playwright.APIRequestContext;
+import com.microsoft.playwright.APIResponse;
+import core.CurrentTest;
+import core.jfr.ApiCallEvent;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Wraps an {@link APIRequestContext} so every request is an {@link ApiCallEvent}
+ * for flight recordings (method, endpoint, status, test). The API objects wrap
+ * the context they are given; without a recording the cost is one proxy call.
+ * Time spent in requests is also summed per thread ({@link #spentNanos()}).
+ */
+public final class ApiCalls {
+
+    private static final Set<String> VERBS = Set.of("get", "post", "put", "patch", "delete", "head", "fetch");
+    private static final Pattern ID = Pattern.compile("/\\d+(?=/|$)");
+    private static final ThreadLocal<long[]> SPENT = ThreadLocal.withInitial(() -> new long[1]);
+
+    private ApiCalls() {}
+
+    public static APIRequestContext instrument(APIRequestContext req) {
+        if (req == null || Proxy.isProxyClass(req.getClass()) && Proxy.getInvocationHandler(req) instanceof Handler) {
+            return req;
+        }
+        return (APIRequestContext) Proxy.newProxyInstance(APIRequestContext.class.getClassLoader(),
+                new Class<?>[]{APIRequestContext.class}, new Handler(req));
+    }
+
+    /** Total time the calling thread has spent in requests so far. */
+    public static long spentNanos() {
+        return SPENT.get()[0];
+    }
+
+    /** {@code /booking/123?x=1} → {@code /booking/{id}}, so endpoints group in Mission Control. */
+    static String endpoint(String url) {
+        int query = url.indexOf('?');
+        return ID.matcher(query < 0 ? url : url.substring(0, query)).replaceAll("/{id}");
+    }
+
+    private record Handler(APIRequestContext target) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (!VERBS.contains(method.getName()) || args == null || !(args[0] instanceof String url)) {
+                return call(method, args);
+            }
+            ApiCallEvent event = new ApiCallEvent();
+            event.begin();
+            int status = -1;
+            long t0 = System.nanoTime();
+            try {
+                Object response = call(method, args);
+                if (response instanceof APIResponse r) status = r.status();
+                return response;
+            } finally {
+                SPENT.get()[0] += System.nanoTime() - t0;
+                event.end();
+                if (event.shouldCommit()) {
+                    event.test = CurrentTest.name();
+                    event.method = method.getName().toUpperCase();
+                    event.endpoint = endpoint(url);
+                    event.status = status;
+                    event.commit();
+                }
+            }
+        }
+
+        private Object call(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package api.core;
+
+import com.microsoft.playwright.APIRequest;
+import com.microsoft.playwright.APIRequestContext;
+import com.microsoft.playwright.Playwright;
+import core.PlaywrightRuntime;
+
+/**
+ * Thread-confined Playwright driver + HTTP context for one concurrent API worker.
+ *
+ * Playwright objects must not be shared between threads, so every worker of
+ * the concurrent lane opens its own pair and binds the context to its thread;
+ * tests created on that thread pick it up as {@code req}.
+ */
+public final class ApiWorker implements AutoCloseable {
+
+    private final Playwright pw;
+    private final APIRequestContext req;
+
+    private ApiWorker(Playwright pw, APIRequestContext req) {
+        this.pw = pw;
+        this.req = req;
+    }
+
+    /** Starts a worker and binds its context to the calling thread. */
+    public static ApiWorker open() {
+        Playwright pw = PlaywrightRuntime.timed("api worker", Playwright::create);
+        APIRequestContext req = pw.request().newContext(
+                new APIRequest.NewContextOptions().setBaseURL(BaseApiTest.baseUrl()));
+        BaseApiTest.bind(req);
+        return new ApiWorker(pw, req);
+    }
+
+    public APIRequestContext request() {
+        return req;
+    }
+
+    @Override
+    public void close() {
+        BaseApiTest.unbind();
+        req.dispose();
+        pw.close();
+    }
+}
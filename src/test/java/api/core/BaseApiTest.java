@@ -1,19 +1,65 @@
 // src/main/java/api/core/BaseApiTest.java
 package api.core;
 
+import api.objects.TokenProvider;
+import api.stub.BookerStub;
 import com.microsoft.playwright.*;
+import core.PlaywrightRuntime;
+import utils.Config;
 
 public abstract class BaseApiTest {
     protected static final String BASE_URL = "https://restful-booker.herokuapp.com/apidoc/index.html";
 
-    /** Shared for all tests: Playwright + shared HTTP context */
-    protected static final Playwright PW = Playwright.create();
-    protected static final APIRequestContext REQ =
-            PW.request().newContext(new APIRequest.NewContextOptions().setBaseURL(BASE_URL));
+    /**
+     * Shared HTTP context for sequential tests, opened on first use on the
+     * run's {@link PlaywrightRuntime} driver (also used by the UI lane).
+     */
+    private static APIRequestContext shared;
 
-    /** Proper resource cleanup is triggered by the TestRunner after all tests */
-    public static void shutdown() {
-        if (REQ != null) REQ.dispose();
-        if (PW != null) PW.close();
+    /** Context bound to the current thread by an {@link ApiWorker} (concurrent lane only). */
+    private static final ThreadLocal<APIRequestContext> BOUND = new ThreadLocal<>();
+
+    /**
+     * HTTP context used by this test instance: the worker's own context when
+     * running in the concurrent lane, the shared one otherwise.
+     */
+    protected final APIRequestContext req = context();
+
+    /**
+     * Public service (or {@code -Dapi.baseUrl}), or the in-process {@link BookerStub}
+     * when {@code -Dapi.stub=true}.
+     */
+    public static String baseUrl() {
+        if (Config.API_STUB) return BookerStub.shared().url();
+        return Config.API_BASE_URL.equals(Config.BASE_API_URL) ? BASE_URL : Config.API_BASE_URL;
+    }
+
+    /** Context for the calling thread. */
+    public static APIRequestContext context() {
+        APIRequestContext bound = BOUND.get();
+        return bound != null ? bound : shared();
+    }
+
+    private static synchronized APIRequestContext shared() {
+        if (shared == null) {
+            Playwright pw = PlaywrightRuntime.current().playwright();
+            shared = PlaywrightRuntime.timed("api context", () -> pw.request()
+                    .newContext(new APIRequest.NewContextOptions().setBaseURL(baseUrl())));
+        }
+        return shared;
+    }
+
+    static void bind(APIRequestContext req) { BOUND.set(req); }
+    static void unbind()                     { BOUND.remove(); }
+
+    /**
+     * Proper resource cleanup is triggered by the TestRunner after all tests;
+     * the driver itself is closed with the runtime.
+     */
+    public static synchronized void shutdown() {
+        if (shared != null) shared.dispose();
+        shared = null;
+        TokenProvider.clear();
+        BookerStub.stopShared();
     }
-}
\ No newline at end of file
+}
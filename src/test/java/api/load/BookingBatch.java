@@ -0,0 +1,180 @@
+package api.load;
+
+import api.objects.Booking;
+import api.objects.BookingTemplate;
+import utils.Config;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * Bulk booking operations for seeding and tearing down test data.
+ *
+ * - Calls run on {@code batch.workers} HTTP workers at once (default 8), which
+ *   is the in-flight limit: Playwright's client blocks its thread per request,
+ *   so each worker (one driver each) keeps exactly one request on the wire.
+ * - Every item gets its own {@link Result}; a failure is recorded and the batch
+ *   carries on.
+ * - Bookings created here are remembered for the run until deleted, so
+ *   {@link #cleanupCreated()} removes whatever a test left behind.
+ *
+ * <pre>
+ * try (BookingBatch batch = BookingBatch.open()) {
+ *     List&lt;Integer&gt; ids = batch.createMany(5_000).values();
+ *     ...
+ *     batch.cleanupCreated();
+ * }
+ * </pre>
+ */
+public final class BookingBatch implements AutoCloseable {
+
+    /** Outcome of one item: {@code value} on success, {@code failure} otherwise. */
+    public record Result<K, V>(K key, V value, Throwable failure) {
+        public boolean ok() { return failure == null; }
+    }
+
+    /** Per-item results, in input order, and the wall time of the batch. */
+    public record Results<K, V>(String operation, List<Result<K, V>> items, long nanos) {
+
+        public List<V> values() {
+            return items.stream().filter(Result::ok).map(Result::value).toList();
+        }
+
+        public List<Result<K, V>> failures() {
+            return items.stream().filter(r -> !r.ok()).toList();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d ok, %d failed in %.1f s (%.0f/s)", operation, items.size() - failures().size(),
+                    failures().size(), nanos / 1e9, items.size() / Math.max(nanos / 1e9, 1e-9));
+        }
+    }
+
+    /** Ids created by any batch of this run and not deleted yet. */
+    private static final Set<Integer> CREATED = ConcurrentHashMap.newKeySet();
+
+    /** Next {@link BookingTemplate#distinct} number, shared by all batches of the run. */
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final WorkerPool pool;
+
+    private BookingBatch(WorkerPool pool) {
+        this.pool = pool;
+    }
+
+    /** Starts {@code batch.workers} workers against {@code BaseApiTest.baseUrl()}. */
+    public static BookingBatch open() {
+        return open(Config.intSetting("batch.workers", 8));
+    }
+
+    public static BookingBatch open(int workers) {
+        try {
+            return new BookingBatch(new WorkerPool(workers));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while starting batch workers", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Cannot start batch workers", e.getCause());
+        }
+    }
+
+    /* ───────────────────────── operations ───────────────────────── */
+
+    /**
+     * Creates {@code n} bookings that differ from every other booking this run's
+     * batches created ({@link BookingTemplate#distinct} over a run-wide sequence); keys are 0..n-1.
+     */
+    public Results<Integer, Integer> createMany(int n) {
+        long first = SEQUENCE.getAndAdd(n);
+        return createMany(n, (template, i) -> template.distinct(first + i));
+    }
+
+    /**
+     * Creates {@code n} bookings; {@code generator} fills a reset template for
+     * booking number i (it runs on the worker threads, concurrently).
+     */
+    public Results<Integer, Integer> createMany(int n, ObjLongConsumer<BookingTemplate> generator) {
+        List<Integer> keys = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) keys.add(i);
+        return run("createMany", keys, (c, i) -> {
+            generator.accept(c.bookings().reset(), i);
+            int id = c.booking().create(c.bookings());
+            CREATED.add(id);
+            return id;
+        });
+    }
+
+    public Results<Integer, Booking> getMany(Collection<Integer> ids) {
+        return run("getMany", ids, (c, id) -> c.booking().get(id));
+    }
+
+    /** Deletes with the shared cached token (renewed and retried on 403). */
+    public Results<Integer, Integer> deleteMany(Collection<Integer> ids) {
+        return run("deleteMany", ids, (c, id) -> {
+            c.booking().delete(id, c.auth());
+            CREATED.remove(id);
+            return id;
+        });
+    }
+
+    public Results<Integer, Integer> deleteMany(Collection<Integer> ids, String token) {
+        return run("deleteMany", ids, (c, id) -> {
+            c.booking().delete(id, token);
+            CREATED.remove(id);
+            return id;
+        });
+    }
+
+    /** Deletes every booking created by a batch of this run that is still there. */
+    public Results<Integer, Integer> cleanupCreated() {
+        return deleteMany(List.copyOf(CREATED));
+    }
+
+    @Override
+    public void close() {
+        pool.close();
+    }
+
+    /* ───────────────────────── execution ───────────────────────── */
+
+    private interface Call<K, V> {
+        V apply(WorkerPool.Clients clients, K key);
+    }
+
+    // workers take the next unclaimed item until none is left
+    private <K, V> Results<K, V> run(String operation, Collection<K> keys, Call<K, V> call) {
+        List<K> items = List.copyOf(keys);
+        AtomicReferenceArray<Result<K, V>> results = new AtomicReferenceArray<>(items.size());
+        AtomicInteger next = new AtomicInteger();
+        long t0 = System.nanoTime();
+        try {
+            pool.all(c -> {
+                for (int i; (i = next.getAndIncrement()) < items.size(); ) {
+                    K key = items.get(i);
+                    try {
+                        results.set(i, new Result<>(key, call.apply(c, key), null));
+                    } catch (RuntimeException | AssertionError e) {
+                        results.set(i, new Result<>(key, null, e));
+                    }
+                }
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(operation + " interrupted", e);
+        }
+        List<Result<K, V>> inOrder = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) inOrder.add(results.get(i));
+        Results<K, V> done = new Results<>(operation, inOrder, System.nanoTime() - t0);
+        System.out.println("  [batch] " + done);
+        return done;
+    }
+}
@@ -0,0 +1,45 @@
+package api.load;
+
+import utils.Config;
+
+/**
+ * Shape of a load run, read from {@code load.*} settings.
+ *
+ * - {@code load.rate} > 0: open loop – a new booking flow starts every 1/rate s,
+ *   whatever the response times; latency is measured from the scheduled start.
+ * - {@code load.rate} = 0 (default): closed loop – {@code load.users} virtual-thread
+ *   users each run the flow back to back, with {@code load.thinkMs} between flows.
+ *
+ * @param users       closed-loop user count
+ * @param rate        open-loop flow starts per second (0 = closed loop)
+ * @param seconds     run length
+ * @param workers     HTTP workers (one Playwright driver each) shared by all users
+ * @param thinkMs     closed-loop pause between a user's flows
+ * @param maxInFlight open-loop cap on started-but-unfinished flows; later starts are dropped
+ * @param maxErrorRate error rate above which the run fails
+ */
+public record LoadProfile(int users, double rate, int seconds, int workers, long thinkMs,
+                          int maxInFlight, double maxErrorRate) {
+
+    public static LoadProfile fromConfig() {
+        return new LoadProfile(
+                Config.intSetting("load.users", 10),
+                Double.parseDouble(Config.setting("load.rate", "0")),
+                Config.intSetting("load.seconds", 30),
+                Config.intSetting("load.workers", 4),
+                Config.intSetting("load.thinkMs", 0),
+                Config.intSetting("load.maxInFlight", 1_000),
+                Double.parseDouble(Config.setting("load.maxErrorRate", "0.01")));
+    }
+
+    public boolean openLoop() {
+        return rate > 0;
+    }
+
+    @Override
+    public String toString() {
+        return openLoop()
+                ? String.format("open loop, %.1f flows/s, %d s, %d workers", rate, seconds, workers)
+                : String.format("closed loop, %d users, %d s, think %d ms, %d workers", users, seconds, thinkMs, workers);
+    }
+}
@@ -0,0 +1,231 @@
+package api.load;
+
+import api.core.BaseApiTest;
+import api.objects.TokenProvider;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import utils.Config;
+import utils.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Load mode for the booking API ({@code TestRunner load}).
+ *
+ * Every flow is the BookingApiTest sequence – auth, create, get, update, patch,
+ * delete – through the same {@code api.objects} classes, so their status and
+ * content checks apply under load as well (run with {@code -ea}). A failed step
+ * counts as an error of its endpoint and ends the flow. Each flow creates a
+ * different booking ({@link api.objects.BookingTemplate#distinct}); "auth" is
+ * the token lookup, which only reaches /auth when the shared
+ * {@link TokenProvider} cache needs a new token. The request total and error
+ * rate therefore count the /auth fetches, not the lookups.
+ *
+ * Per endpoint the run records a latency histogram, throughput and error rate;
+ * "flow" is the whole sequence including any wait for a free worker. The result
+ * is printed and written as JSON to {@code load.report}
+ * (default test-output/load-report.json). Point it at the stand-in with
+ * {@code -Dapi.stub=true} or at another deployment with {@code -Dapi.baseUrl}.
+ */
+public final class LoadRunner {
+
+    private static final Path REPORT = Path.of(Config.setting("load.report", "test-output/load-report.json"));
+    static final String USER = Config.setting("load.user", "admin");
+    static final String PASSWORD = Config.setting("load.password", "password123");
+    private static final List<String> ENDPOINTS = List.of("auth", "create", "get", "update", "patch", "delete", "flow");
+
+    /** Latency and errors of one endpoint. */
+    private record Endpoint(LatencyHistogram latency, LongAdder errors) {
+        Endpoint() { this(new LatencyHistogram(), new LongAdder()); }
+    }
+
+    private final LoadProfile profile;
+    private final Map<String, Endpoint> stats = new LinkedHashMap<>();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong sequence = new AtomicLong();
+    private final long fetchesBefore = TokenProvider.fetches();
+
+    private LoadRunner(LoadProfile profile) {
+        this.profile = profile;
+        ENDPOINTS.forEach(e -> stats.put(e, new Endpoint()));
+    }
+
+    /** Runs the profile; true if the overall error rate stayed within {@code maxErrorRate}. */
+    public static boolean run(LoadProfile profile) {
+        System.out.println("[LOAD] " + profile + " against " + BaseApiTest.baseUrl());
+        LoadRunner runner = new LoadRunner(profile);
+        long elapsed;
+        try (WorkerPool pool = new WorkerPool(profile.workers())) {
+            long t0 = System.nanoTime();
+            if (profile.openLoop()) runner.openLoop(pool);
+            else runner.closedLoop(pool);
+            elapsed = System.nanoTime() - t0;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Load run interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Cannot start load workers", e.getCause());
+        }
+        return runner.report(elapsed);
+    }
+
+    /* ───────────────────────── arrival models ───────────────────────── */
+
+    private void openLoop(WorkerPool pool) {
+        long period = (long) (1e9 / profile.rate());
+        long start = System.nanoTime();
+        long end = start + profile.seconds() * 1_000_000_000L;
+        Semaphore inFlight = new Semaphore(profile.maxInFlight());
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; ; i++) {
+                long due = start + i * period;
+                if (due >= end) break;
+                long wait = due - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+                if (!inFlight.tryAcquire()) {
+                    dropped.increment();
+                    continue;
+                }
+                users.submit(() -> {
+                    try {
+                        flow(pool, due);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }                                               // close() waits for the flows in flight
+    }
+
+    private void closedLoop(WorkerPool pool) {
+        long end = System.nanoTime() + profile.seconds() * 1_000_000_000L;
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int u = 0; u < profile.users(); u++) {
+                users.submit(() -> {
+                    while (System.nanoTime() < end) {
+                        flow(pool, System.nanoTime());
+                        if (profile.thinkMs() > 0) LockSupport.parkNanos(profile.thinkMs() * 1_000_000);
+                    }
+                });
+            }
+        }
+    }
+
+    /* ───────────────────────── the booking flow ───────────────────────── */
+
+    private void flow(WorkerPool pool, long scheduledNanos) {
+        try {
+            pool.run(c -> {
+                step("auth", c.auth()::token);
+                long n = sequence.getAndIncrement();
+                int id = step("create", () -> c.booking().create(c.bookings().distinct(n)));
+                step("get", () -> c.booking().get(id));
+                step("update", () -> c.booking().update(id, c.auth(), Map.of("firstname", "James")));
+                JsonObject patch = new JsonObject();
+                patch.addProperty("additionalneeds", "Lunch");
+                step("patch", () -> c.booking().patch(id, c.auth(), patch));
+                step("delete", () -> {
+                    c.booking().delete(id, c.auth());
+                    return null;
+                });
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (RuntimeException | AssertionError e) {
+            stats.get("flow").errors().increment();
+        }
+        stats.get("flow").latency().recordNanos(System.nanoTime() - scheduledNanos);
+    }
+
+    private <T> T step(String endpoint, Supplier<T> call) {
+        Endpoint e = stats.get(endpoint);
+        long t0 = System.nanoTime();
+        try {
+            return call.get();
+        } catch (RuntimeException | AssertionError failure) {
+            e.errors().increment();
+            throw failure;
+        } finally {
+            e.latency().recordNanos(System.nanoTime() - t0);
+        }
+    }
+
+    /* ───────────────────────── reporting ───────────────────────── */
+
+    private boolean report(long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        long requests = 0;
+        long errors = 0;
+
+        JsonObject endpoints = new JsonObject();
+        System.out.printf("[LOAD] %-7s %8s %7s %8s %9s %9s %9s %9s%n",
+                "", "count", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms");
+        for (Map.Entry<String, Endpoint> entry : stats.entrySet()) {
+            LatencyHistogram h = entry.getValue().latency();
+            long n = h.count();
+            long err = entry.getValue().errors().sum();
+            if ("auth".equals(entry.getKey())) {
+                requests += TokenProvider.fetches() - fetchesBefore;    // cache hits never left the JVM
+                errors += err;
+            } else if (!"flow".equals(entry.getKey())) {
+                requests += n;
+                errors += err;
+            }
+            JsonObject o = new JsonObject();
+            o.addProperty("count", n);
+            o.addProperty("errors", err);
+            o.addProperty("errorRate", n == 0 ? 0 : (double) err / n);
+            o.addProperty("throughputPerSec", n / seconds);
+            o.addProperty("meanMs", h.meanMicros() / 1e3);
+            o.addProperty("p50Ms", h.percentileMicros(50) / 1e3);
+            o.addProperty("p95Ms", h.percentileMicros(95) / 1e3);
+            o.addProperty("p99Ms", h.percentileMicros(99) / 1e3);
+            o.addProperty("maxMs", h.maxMicros() / 1e3);
+            endpoints.add(entry.getKey(), o);
+            System.out.printf("[LOAD] %-7s %8d %7d %8.1f %9.1f %9.1f %9.1f %9.1f%n", entry.getKey(), n, err,
+                    n / seconds, h.percentileMicros(50) / 1e3, h.percentileMicros(95) / 1e3,
+                    h.percentileMicros(99) / 1e3, h.maxMicros() / 1e3);
+        }
+        double errorRate = requests == 0 ? 0 : (double) errors / requests;
+        boolean passed = requests > 0 && errorRate <= profile.maxErrorRate();
+        System.out.printf("[LOAD] %d requests in %.1f s = %.1f req/s, error rate %.2f %%, dropped starts %d – %s%n",
+                requests, seconds, requests / seconds, errorRate * 100, dropped.sum(), passed ? "PASS" : "FAIL");
+
+        JsonObject root = new JsonObject();
+        root.addProperty("target", BaseApiTest.baseUrl());
+        root.addProperty("mode", profile.openLoop() ? "open" : "closed");
+        root.add("profile", new GsonBuilder().create().toJsonTree(profile));
+        root.addProperty("elapsedSec", seconds);
+        root.addProperty("requests", requests);
+        root.addProperty("throughputPerSec", requests / seconds);
+        root.addProperty("errorRate", errorRate);
+        root.addProperty("droppedStarts", dropped.sum());
+        root.addProperty("passed", passed);
+        root.add("endpoints", endpoints);
+        try {
+            Files.createDirectories(REPORT.toAbsolutePath().getParent());
+            Files.writeString(REPORT, new GsonBuilder().setPrettyPrinting().create().toJson(root));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write " + REPORT, e);
+        }
+        String authReport = TokenProvider.report();
+        if (!authReport.isEmpty()) System.out.println(authReport);
+        System.out.println("[LOAD] report: " + REPORT);
+        return passed;
+    }
+}
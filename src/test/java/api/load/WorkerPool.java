@@ -0,0 +1,117 @@
+package api.load;
+
+import api.core.ApiWorker;
+import api.objects.AuthApi;
+import api.objects.BookingApi;
+import api.objects.BookingTemplate;
+import api.objects.TokenProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+/**
+ * Fixed set of {@link ApiWorker}s shared by many virtual-thread users.
+ *
+ * Playwright objects must stay on the thread that created them, so every
+ * worker is a platform thread owning one driver, one HTTP context and the API
+ * objects built on it. A user borrows an idle worker, hands it one flow and
+ * waits (cheaply, on its virtual thread); time spent waiting for a free worker
+ * is queueing and shows up in the flow latency, not in the endpoint latencies.
+ * {@link BookingBatch} instead keeps every worker busy with {@link #all}.
+ */
+final class WorkerPool implements AutoCloseable {
+
+    /** API objects of one worker; only touched on that worker's thread. */
+    record Clients(TokenProvider auth, BookingApi booking, BookingTemplate bookings) {}
+
+    private record Slot(ExecutorService thread, ApiWorker worker, Clients clients) {}
+
+    private final BlockingQueue<Slot> idle;
+    private final List<Slot> all = new ArrayList<>();
+
+    /** Starts {@code size} workers side by side (each start launches a driver). */
+    WorkerPool(int size) throws InterruptedException, ExecutionException {
+        idle = new ArrayBlockingQueue<>(size);
+        List<Future<Slot>> starting = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int n = i;
+            ExecutorService thread = Executors.newSingleThreadExecutor(r -> new Thread(r, "api-worker-" + n));
+            starting.add(thread.submit(() -> {
+                ApiWorker worker = ApiWorker.open();
+                return new Slot(thread, worker,
+                        new Clients(new TokenProvider(new AuthApi(worker.request()), LoadRunner.USER, LoadRunner.PASSWORD),
+                                new BookingApi(worker.request()).quiet(),
+                                new BookingTemplate()));
+            }));
+        }
+        ExecutionException failed = null;
+        for (Future<Slot> f : starting) {
+            try {
+                Slot slot = f.get();
+                all.add(slot);
+                idle.add(slot);
+            } catch (ExecutionException e) {
+                if (failed == null) failed = e;
+            }
+        }
+        if (failed != null) {
+            close();                                    // the ones that did start
+            throw failed;
+        }
+    }
+
+    /** Runs {@code flow} on the next free worker and waits for it; failures are rethrown. */
+    void run(Consumer<Clients> flow) throws InterruptedException {
+        Slot slot = idle.take();
+        try {
+            slot.thread().submit(() -> flow.accept(slot.clients())).get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw new IllegalStateException(cause);
+        } finally {
+            idle.add(slot);
+        }
+    }
+
+    /** Runs {@code task} once on every worker at the same time and waits for all of them. */
+    void all(Consumer<Clients> task) throws InterruptedException {
+        List<Future<?>> running = new ArrayList<>();
+        for (Slot slot : all) running.add(slot.thread().submit(() -> task.accept(slot.clients())));
+        Throwable failure = null;
+        for (Future<?> f : running) {
+            try {
+                f.get();
+            } catch (ExecutionException e) {
+                if (failure == null) failure = e.getCause();
+            }
+        }
+        if (failure instanceof RuntimeException re) throw re;
+        if (failure instanceof Error err) throw err;
+        if (failure != null) throw new IllegalStateException(failure);
+    }
+
+    int size() {
+        return all.size();
+    }
+
+    @Override
+    public void close() {
+        for (Slot slot : all) {
+            try {
+                slot.thread().submit(slot.worker()::close).get();
+            } catch (InterruptedException | ExecutionException e) {
+                System.err.println("  [load] failed to close " + slot.worker() + " – " + e);
+            }
+            slot.thread().shutdown();
+        }
+    }
+}
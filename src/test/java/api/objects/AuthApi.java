@@ -1,7 +1,7 @@
 package api.objects;
 
+import api.core.ApiCalls;
 import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.microsoft.playwright.APIRequestContext;
 import com.microsoft.playwright.APIResponse;
 import com.microsoft.playwright.options.RequestOptions;
@@ -11,28 +11,34 @@ public class AuthApi {
     private final APIRequestContext req;
 
     public AuthApi(APIRequestContext req) {
-        this.req = req;
+        this.req = ApiCalls.instrument(req);
     }
 
     /** Sends credentials and returns freshly‑issued token. */
     public String createToken(String user, String pass) {
-        // Build JSON payload
-        JsonObject payload = new JsonObject();
-        payload.addProperty("username", user);
-        payload.addProperty("password", pass);
-
         // POST /auth with JSON body (RequestOptions handles serialization)
         APIResponse resp = req.post("/auth",
                 RequestOptions.create()
                         .setHeader("Content-Type", "application/json")
-                        .setData(payload));
+                        .setData(credentials(user, pass)));
 
         assert resp.status() == 200 : "Auth must return 200";
 
-        // Parse response
-        JsonObject body = JsonParser.parseString(resp.text()).getAsJsonObject();
-        assert body.has("token") : "Response must contain token";
+        return token(resp.body());
+    }
+
+    /** JSON payload of POST /auth. */
+    public static JsonObject credentials(String user, String pass) {
+        JsonObject payload = new JsonObject();
+        payload.addProperty("username", user);
+        payload.addProperty("password", pass);
+        return payload;
+    }
 
-        return body.get("token").getAsString();
+    /** Token from a POST /auth response body. */
+    public static String token(byte[] responseBody) {
+        String token = ResponseDecoder.token(responseBody);
+        assert token != null : "Response must contain token";
+        return token;
     }
 }
\ No newline at end of file
@@ -0,0 +1,5 @@
+package api.objects;
+
+/** A booking as returned by GET/PUT/PATCH /booking/{id}. */
+public record Booking(String firstname, String lastname, int totalprice, boolean depositpaid,
+                      BookingDates bookingdates, String additionalneeds) {}
@@ -1,23 +1,38 @@
 package api.objects;
 
-import com.google.gson.*;
+import api.core.ApiCalls;
+import com.google.gson.JsonObject;
 import com.microsoft.playwright.APIRequestContext;
 import com.microsoft.playwright.APIResponse;
 import com.microsoft.playwright.options.RequestOptions;
 
 import java.util.Map;
+import java.util.function.Function;
 
 import static java.lang.System.out;
 
 public class BookingApi {
     private final APIRequestContext req;
+    private final BookingTemplate template = new BookingTemplate();
+    private boolean verbose = true;
 
     public BookingApi(APIRequestContext req) {
-        this.req = req;
+        this.req = ApiCalls.instrument(req);
+    }
+
+    /** Stops per-call console output (load runs). */
+    public BookingApi quiet() {
+        verbose = false;
+        return this;
     }
 
     /* ---------- helpers ---------- */
-    private static JsonObject sampleBooking() {
+
+    /**
+     * The sample booking as a Gson tree – the body create/update sent before
+     * {@link BookingTemplate}; kept as the baseline of the benchmarks in {@code bench}.
+     */
+    public static JsonObject sampleBooking() {
         JsonObject dates = new JsonObject();
         dates.addProperty("checkin",  "2023-07-01");
         dates.addProperty("checkout", "2023-07-10");
@@ -34,67 +49,113 @@ public class BookingApi {
 
     /* ---------- API actions ---------- */
 
-    /** POST /booking — creates a booking and returns its ID. */
+    /** POST /booking — creates the sample booking and returns its ID. */
     public int create() {
+        return create(template.reset());
+    }
+
+    /** POST /booking — creates the booking {@code body} describes and returns its ID. */
+    public int create(BookingTemplate body) {
         APIResponse r = req.post("/booking",
                 RequestOptions.create()
                         .setHeader("Content-Type", "application/json")
-                        .setData(sampleBooking()));
+                        .setData(body.toBytes()));
 
         assert r.status() == 200 : "createBooking -> 200";
 
-        int id = JsonParser.parseString(r.text())
-                .getAsJsonObject()
-                .get("bookingid").getAsInt();
-        out.printf("  [booking] created id=%d%n", id);
+        int id = ResponseDecoder.bookingId(r.body());
+        if (verbose) out.printf("  [booking] created id=%d%n", id);
         return id;
     }
 
     /** GET /booking/{id} — retrieves a booking. */
-    public JsonObject get(int id) {
+    public Booking get(int id) {
         APIResponse r = req.get("/booking/" + id);
         assert r.status() == 200 : "getBooking -> 200";
-        return JsonParser.parseString(r.text()).getAsJsonObject();
+        return ResponseDecoder.booking(r.body());
     }
 
      /**
      * PUT /booking/{id} — full update.
-     * @param newVals key/value pairs to be updated
+     * @param newVals booking fields replacing the sample values, JSON types kept
+     *                (see {@link BookingTemplate#set(String, Object)})
      */
-    public JsonObject update(int id, String token, Map<String, ?> newVals) {
-        JsonObject payload = sampleBooking();
-        newVals.forEach((k, v) -> payload.addProperty(k, String.valueOf(v)));
+    public Booking update(int id, String token, Map<String, ?> newVals) {
+        return update(id, token, null, newVals);
+    }
+
+    /** PUT with a cached token; a 403 renews it and retries once. */
+    public Booking update(int id, TokenProvider auth, Map<String, ?> newVals) {
+        return update(id, null, auth, newVals);
+    }
 
-        APIResponse r = req.put("/booking/" + id,
+    private Booking update(int id, String token, TokenProvider auth, Map<String, ?> newVals) {
+        byte[] payload = template.reset().set(newVals).toBytes();
+
+        APIResponse r = authorised(token, auth, t -> req.put("/booking/" + id,
                 RequestOptions.create()
                         .setHeader("Content-Type", "application/json")
-                        .setHeader("Cookie", "token=" + token)
-                        .setData(payload));
+                        .setHeader("Cookie", "token=" + t)
+                        .setData(payload)));
 
         assert r.status() == 200 : "updateBooking -> 200";
-        return JsonParser.parseString(r.text()).getAsJsonObject();
+        return ResponseDecoder.booking(r.body());
     }
 
      /**
      * PATCH /booking/{id} — partial update.
      * @param patch arbitrary JsonObject with fields to be updated
      */
-    public JsonObject patch(int id, String token, JsonObject patch) {
-        APIResponse r = req.patch("/booking/" + id,
+    public Booking patch(int id, String token, JsonObject patch) {
+        return patch(id, token, null, patch);
+    }
+
+    /** PATCH with a cached token; a 403 renews it and retries once. */
+    public Booking patch(int id, TokenProvider auth, JsonObject patch) {
+        return patch(id, null, auth, patch);
+    }
+
+    private Booking patch(int id, String token, TokenProvider auth, JsonObject patch) {
+        APIResponse r = authorised(token, auth, t -> req.patch("/booking/" + id,
                 RequestOptions.create()
                         .setHeader("Content-Type", "application/json")
-                        .setHeader("Cookie", "token=" + token)
-                        .setData(patch));
+                        .setHeader("Cookie", "token=" + t)
+                        .setData(patch)));
 
         assert r.status() == 200 : "patchBooking -> 200";
-        return JsonParser.parseString(r.text()).getAsJsonObject();
+        return ResponseDecoder.booking(r.body());
     }
 
     /** DELETE /booking/{id}. */
     public void delete(int id, String token) {
-        APIResponse r = req.delete("/booking/" + id,
-                RequestOptions.create().setHeader("Cookie", "token=" + token));
+        delete(id, token, null);
+    }
+
+    /** DELETE with a cached token; a 403 renews it and retries once. */
+    public void delete(int id, TokenProvider auth) {
+        delete(id, null, auth);
+    }
+
+    private void delete(int id, String token, TokenProvider auth) {
+        APIResponse r = authorised(token, auth, t -> req.delete("/booking/" + id,
+                RequestOptions.create().setHeader("Cookie", "token=" + t)));
 
         assert r.status() == 201 : "deleteBooking -> 201";
     }
+
+    /* ---------- auth ---------- */
+
+    /**
+     * Sends {@code call} with the given token, or with {@code auth}'s cached one;
+     * a cached token the API rejects (403) is dropped and the call repeated once
+     * with a fresh token.
+     */
+    private static APIResponse authorised(String token, TokenProvider auth, Function<String, APIResponse> call) {
+        if (auth == null) return call.apply(token);
+        String cached = auth.token();
+        APIResponse r = call.apply(cached);
+        if (r.status() != 403) return r;
+        auth.invalidate(cached);
+        return call.apply(auth.token());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,4 @@
+package api.objects;
+
+/** {@code bookingdates} of a booking, ISO dates as sent by the API. */
+public record BookingDates(String checkin, String checkout) {}
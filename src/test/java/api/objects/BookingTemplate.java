@@ -0,0 +1,273 @@
+package api.objects;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Booking request body assembled from pre-serialised JSON fragments.
+ *
+ * - The constant parts ({@code {"firstname":"}, {@code ","lastname":"}, …) are
+ *   encoded once; {@link #encode()} copies them and the variable fields into a
+ *   reusable buffer, so building a body allocates nothing.
+ * - Fields keep their JSON types: {@code totalprice} is a number,
+ *   {@code depositpaid} a boolean, dates are written from epoch days as
+ *   {@code yyyy-MM-dd} without going through {@link LocalDate}.
+ * - {@link #distinct(long)} turns a sequence number into a unique booking
+ *   (names, price, deposit, dates) for seeding and load runs.
+ *
+ * Mutable and not thread-safe: keep one per thread, like the API objects.
+ */
+public final class BookingTemplate {
+
+    private static final byte[] FIRSTNAME = ascii("{\"firstname\":\"");
+    private static final byte[] LASTNAME = ascii("\",\"lastname\":\"");
+    private static final byte[] TOTALPRICE = ascii("\",\"totalprice\":");
+    private static final byte[] DEPOSITPAID = ascii(",\"depositpaid\":");
+    private static final byte[] CHECKIN = ascii(",\"bookingdates\":{\"checkin\":\"");
+    private static final byte[] CHECKOUT = ascii("\",\"checkout\":\"");
+    private static final byte[] NEEDS = ascii("\"},\"additionalneeds\":\"");
+    private static final byte[] END = ascii("\"}");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+    private static final byte[] HEX = ascii("0123456789abcdef");
+
+    /** First check-in of {@link #distinct}: 2030-01-01, ten years of distinct dates from there. */
+    private static final long DISTINCT_FROM = LocalDate.of(2030, 1, 1).toEpochDay();
+
+    private final Text firstname = new Text();
+    private final Text lastname = new Text();
+    private final Text additionalneeds = new Text();
+    private int totalprice;
+    private boolean depositpaid;
+    private long checkin;
+    private long checkout;
+
+    private byte[] buf = new byte[256];
+    private int length;
+
+    /** Template holding {@link BookingApi#sampleBooking()}'s values. */
+    public BookingTemplate() {
+        reset();
+    }
+
+    /** Back to the sample booking (Jim Brown, 111, deposit paid, 2023-07-01..10, Breakfast). */
+    public BookingTemplate reset() {
+        firstname.set("Jim");
+        lastname.set("Brown");
+        totalprice = 111;
+        depositpaid = true;
+        checkin = LocalDate.of(2023, 7, 1).toEpochDay();
+        checkout = LocalDate.of(2023, 7, 10).toEpochDay();
+        additionalneeds.set("Breakfast");
+        return this;
+    }
+
+    /* ───────────────────────── fields ───────────────────────── */
+
+    public BookingTemplate firstname(String v)       { firstname.set(v); return this; }
+    public BookingTemplate lastname(String v)        { lastname.set(v); return this; }
+    public BookingTemplate totalprice(int v)         { totalprice = v; return this; }
+    public BookingTemplate depositpaid(boolean v)    { depositpaid = v; return this; }
+    public BookingTemplate additionalneeds(String v) { additionalneeds.set(v); return this; }
+
+    /** Stay as epoch days ({@link LocalDate#toEpochDay()}). */
+    public BookingTemplate dates(long checkinDay, long checkoutDay) {
+        checkin = checkinDay;
+        checkout = checkoutDay;
+        return this;
+    }
+
+    public BookingTemplate dates(LocalDate checkinDate, LocalDate checkoutDate) {
+        return dates(checkinDate.toEpochDay(), checkoutDate.toEpochDay());
+    }
+
+    /**
+     * Sets one field by its JSON name, keeping its type; {@code checkin} and
+     * {@code checkout} take an ISO date or a LocalDate.
+     *
+     * @throws IllegalArgumentException for names that are not booking fields
+     */
+    public BookingTemplate set(String field, Object value) {
+        switch (field) {
+            case "firstname"       -> firstname(String.valueOf(value));
+            case "lastname"        -> lastname(String.valueOf(value));
+            case "additionalneeds" -> additionalneeds(String.valueOf(value));
+            case "totalprice"      -> totalprice(value instanceof Number n ? n.intValue() : Integer.parseInt(value.toString()));
+            case "depositpaid"     -> depositpaid(value instanceof Boolean b ? b : Boolean.parseBoolean(value.toString()));
+            case "checkin"         -> checkin = epochDay(value);
+            case "checkout"        -> checkout = epochDay(value);
+            default -> throw new IllegalArgumentException("Not a booking field: " + field);
+        }
+        return this;
+    }
+
+    public BookingTemplate set(Map<String, ?> values) {
+        values.forEach(this::set);
+        return this;
+    }
+
+    /**
+     * Unique booking number {@code seq}: first and last name spell {@code seq}
+     * in letters, price 100..599, deposit on even numbers, a 1..7 night stay
+     * starting on one of 3650 days. Writes the names without creating Strings.
+     */
+    public BookingTemplate distinct(long seq) {
+        if (seq < 0) throw new IllegalArgumentException("Negative booking number: " + seq);
+        firstname.letters("Guest", seq);
+        lastname.letters("Load", seq / 26);
+        totalprice = 100 + (int) Math.floorMod(seq, 500L);
+        depositpaid = (seq & 1) == 0;
+        checkin = DISTINCT_FROM + Math.floorMod(seq, 3650L);
+        checkout = checkin + 1 + Math.floorMod(seq, 7L);
+        return this;
+    }
+
+    /* ───────────────────────── encoding ───────────────────────── */
+
+    /** Writes the body into the internal buffer; valid up to {@link #length()} until the next call. */
+    public byte[] encode() {
+        length = 0;
+        put(FIRSTNAME);
+        put(firstname);
+        put(LASTNAME);
+        put(lastname);
+        put(TOTALPRICE);
+        putInt(totalprice);
+        put(DEPOSITPAID);
+        put(depositpaid ? TRUE : FALSE);
+        put(CHECKIN);
+        putDate(checkin);
+        put(CHECKOUT);
+        putDate(checkout);
+        put(NEEDS);
+        put(additionalneeds);
+        put(END);
+        return buf;
+    }
+
+    /** Bytes of the last {@link #encode()}. */
+    public int length() {
+        return length;
+    }
+
+    /** Encoded body as an exact-size array, the form {@code RequestOptions.setData} takes. */
+    public byte[] toBytes() {
+        encode();
+        return Arrays.copyOf(buf, length);
+    }
+
+    @Override
+    public String toString() {
+        encode();
+        return new String(buf, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private void put(byte[] fragment) {
+        ensure(fragment.length);
+        System.arraycopy(fragment, 0, buf, length, fragment.length);
+        length += fragment.length;
+    }
+
+    private void put(Text t) {
+        ensure(t.len);
+        System.arraycopy(t.bytes, 0, buf, length, t.len);
+        length += t.len;
+    }
+
+    private void putInt(int v) {
+        ensure(11);
+        long n = v;
+        if (n < 0) {
+            buf[length++] = '-';
+            n = -n;
+        }
+        int digits = 1;
+        for (long p = 10; p <= n; p *= 10) digits++;
+        for (int i = length + digits - 1; i >= length; i--, n /= 10) buf[i] = (byte) ('0' + n % 10);
+        length += digits;
+    }
+
+    // days since 1970-01-01 to proleptic Gregorian yyyy-MM-dd (H. Hinnant's civil_from_days)
+    private void putDate(long epochDay) {
+        long z = epochDay + 719_468;
+        long era = Math.floorDiv(z, 146_097);
+        long doe = z - era * 146_097;
+        long yoe = (doe - doe / 1460 + doe / 36_524 - doe / 146_096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        int day = (int) (doy - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+        if (year < 0 || year > 9999) throw new IllegalArgumentException("Year out of range: " + year);
+
+        ensure(10);
+        putDigits((int) year, 4);
+        buf[length++] = '-';
+        putDigits(month, 2);
+        buf[length++] = '-';
+        putDigits(day, 2);
+    }
+
+    private void putDigits(int v, int width) {
+        for (int i = length + width - 1; i >= length; i--, v /= 10) buf[i] = (byte) ('0' + v % 10);
+        length += width;
+    }
+
+    private void ensure(int more) {
+        if (length + more > buf.length) buf = Arrays.copyOf(buf, Math.max(buf.length * 2, length + more));
+    }
+
+    private static long epochDay(Object value) {
+        return value instanceof LocalDate d ? d.toEpochDay() : LocalDate.parse(value.toString()).toEpochDay();
+    }
+
+    private static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /* ───────────────────────── string fields ───────────────────────── */
+
+    /** JSON-escaped contents of one string field, without the quotes. */
+    private static final class Text {
+        byte[] bytes = new byte[32];
+        int len;
+
+        /** Printable ASCII is copied as is; quotes, backslashes, controls and non-ASCII become escapes. */
+        void set(String s) {
+            len = 0;
+            for (int i = 0; i < s.length(); i++) {
+                char c = s.charAt(i);
+                if (c >= 0x20 && c < 0x7f && c != '"' && c != '\\') {
+                    room(1);
+                    bytes[len++] = (byte) c;
+                } else if (c == '"' || c == '\\') {
+                    room(2);
+                    bytes[len++] = '\\';
+                    bytes[len++] = (byte) c;
+                } else {
+                    room(6);
+                    bytes[len++] = '\\';
+                    bytes[len++] = 'u';
+                    for (int shift = 12; shift >= 0; shift -= 4) bytes[len++] = HEX[(c >> shift) & 0xf];
+                }
+            }
+        }
+
+        /** {@code prefix} followed by {@code n} (≥ 0) in base 26 as letters a..z (0 = "a"). */
+        void letters(String prefix, long n) {
+            set(prefix);
+            long v = n;
+            int digits = 1;
+            for (long p = 26; p <= v && p > 0; p *= 26) digits++;
+            room(digits);
+            for (int i = len + digits - 1; i >= len; i--, v /= 26) bytes[i] = (byte) ('a' + v % 26);
+            len += digits;
+        }
+
+        private void room(int more) {
+            if (len + more > bytes.length) bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, len + more));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package api.objects;
 
+import api.core.ApiCalls;
 import com.microsoft.playwright.APIRequestContext;
 import com.microsoft.playwright.APIResponse;
 
@@ -8,7 +9,7 @@ public class PingApi {
     private final APIRequestContext req;
 
     public PingApi(APIRequestContext req) {
-        this.req = req;
+        this.req = ApiCalls.instrument(req);
     }
 
     public void ping() {
@@ -0,0 +1,110 @@
+package api.objects;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Streaming decoder for booker response bodies.
+ *
+ * - Reads straight from the response bytes ({@code APIResponse.body()}): no
+ *   body String, no JSON tree.
+ * - Pulls only the fields a caller asks for and skips the rest unparsed;
+ *   {@link #bookingId} stops as soon as it has the id.
+ * - Field names are canonicalised by Jackson, so matching them allocates nothing.
+ */
+public final class ResponseDecoder {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private ResponseDecoder() {}
+
+    /** {@code bookingid} of a POST /booking response. */
+    public static int bookingId(byte[] body) {
+        try (JsonParser p = open(body)) {
+            String field;
+            while ((field = p.nextFieldName()) != null) {
+                p.nextToken();
+                if ("bookingid".equals(field)) return p.getIntValue();
+                p.skipChildren();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Malformed create response", e);
+        }
+        throw new IllegalStateException("Create response has no bookingid");
+    }
+
+    /** Booking object of a GET/PUT/PATCH /booking/{id} response. */
+    public static Booking booking(byte[] body) {
+        try (JsonParser p = open(body)) {
+            return booking(p);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Malformed booking response", e);
+        }
+    }
+
+    /** {@code token} of a POST /auth response (null if the API refused the credentials). */
+    public static String token(byte[] body) {
+        try (JsonParser p = open(body)) {
+            String field;
+            while ((field = p.nextFieldName()) != null) {
+                p.nextToken();
+                if ("token".equals(field)) return p.getValueAsString();
+                p.skipChildren();
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Malformed auth response", e);
+        }
+    }
+
+    /* ───────────────────────── objects ───────────────────────── */
+
+    private static JsonParser open(byte[] body) throws IOException {
+        JsonParser p = JSON.createParser(body);
+        if (p.nextToken() != JsonToken.START_OBJECT) {
+            p.close();
+            throw new IllegalStateException("Expected a JSON object, got " + p.currentToken());
+        }
+        return p;
+    }
+
+    // parser is on START_OBJECT; leaves it on the matching END_OBJECT
+    private static Booking booking(JsonParser p) throws IOException {
+        String firstname = null, lastname = null, additionalneeds = null;
+        int totalprice = 0;
+        boolean depositpaid = false;
+        BookingDates dates = null;
+        String field;
+        while ((field = p.nextFieldName()) != null) {
+            p.nextToken();
+            switch (field) {
+                case "firstname"       -> firstname = p.getValueAsString();
+                case "lastname"        -> lastname = p.getValueAsString();
+                case "totalprice"      -> totalprice = p.getValueAsInt();
+                case "depositpaid"     -> depositpaid = p.getValueAsBoolean();
+                case "additionalneeds" -> additionalneeds = p.getValueAsString();
+                case "bookingdates"    -> dates = p.currentToken() == JsonToken.START_OBJECT ? dates(p) : null;
+                default                -> p.skipChildren();
+            }
+        }
+        return new Booking(firstname, lastname, totalprice, depositpaid, dates, additionalneeds);
+    }
+
+    private static BookingDates dates(JsonParser p) throws IOException {
+        String checkin = null, checkout = null;
+        String field;
+        while ((field = p.nextFieldName()) != null) {
+            p.nextToken();
+            switch (field) {
+                case "checkin"  -> checkin = p.getValueAsString();
+                case "checkout" -> checkout = p.getValueAsString();
+                default         -> p.skipChildren();
+            }
+        }
+        return new BookingDates(checkin, checkout);
+    }
+}
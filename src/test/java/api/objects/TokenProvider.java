@@ -0,0 +1,154 @@
+package api.objects;
+
+import utils.Config;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * /auth tokens shared by every test and worker, one per credential pair.
+ *
+ * - A token is reused for {@code api.token.ttlSec}. Once it is within
+ *   {@code api.token.refreshAheadSec} of that, the next caller renews it while
+ *   everyone else keeps using the old, still valid one.
+ * - Concurrent misses collapse into one /auth request: the first caller fetches,
+ *   the others wait for its result.
+ * - {@link #invalidate} drops a token the API rejected (403), so the retry in
+ *   {@link BookingApi} gets a new one.
+ *
+ * Fetches run on the calling thread through that caller's own {@link AuthApi},
+ * so Playwright objects never cross threads; only the token strings are shared.
+ */
+public final class TokenProvider {
+
+    private record Key(String user, String password) {}
+
+    private record Token(String value, long issuedNanos) {
+        long age(long now) { return now - issuedNanos; }
+    }
+
+    /** Current token (or fetch in flight) of one credential pair; null when there is none. */
+    private static final class Slot {
+        final AtomicReference<CompletableFuture<Token>> token = new AtomicReference<>();
+        final AtomicBoolean renewing = new AtomicBoolean();
+    }
+
+    private static final Map<Key, Slot> CACHE = new ConcurrentHashMap<>();
+    private static final long TTL = Config.API_TOKEN_TTL_SEC * 1_000_000_000L;
+    private static final long RENEW_AT = Math.max(0, Config.API_TOKEN_TTL_SEC - Config.API_TOKEN_REFRESH_AHEAD_SEC) * 1_000_000_000L;
+
+    private static final LongAdder FETCHES = new LongAdder();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder JOINED = new LongAdder();
+    private static final LongAdder RENEWED = new LongAdder();
+    private static final LongAdder INVALIDATED = new LongAdder();
+
+    private final AuthApi auth;
+    private final Key key;
+
+    /** Handle for the calling thread; {@code auth} is only used on that thread. */
+    public TokenProvider(AuthApi auth, String user, String password) {
+        this.auth = auth;
+        this.key = new Key(user, password);
+    }
+
+    /** A valid token, from the cache whenever possible. */
+    public String token() {
+        Slot slot = CACHE.computeIfAbsent(key, k -> new Slot());
+        while (true) {
+            CompletableFuture<Token> current = slot.token.get();
+            long now = System.nanoTime();
+
+            if (current == null || current.isCompletedExceptionally()
+                    || (current.isDone() && current.join().age(now) >= TTL)) {
+                CompletableFuture<Token> mine = new CompletableFuture<>();
+                if (!slot.token.compareAndSet(current, mine)) continue;       // another caller is fetching
+                return fetchInto(mine).value();
+            }
+            if (!current.isDone()) {
+                JOINED.increment();
+                return await(current).value();
+            }
+
+            Token token = current.join();
+            if (token.age(now) >= RENEW_AT && slot.renewing.compareAndSet(false, true)) {
+                try {
+                    CompletableFuture<Token> renewed = CompletableFuture.completedFuture(fetch());
+                    RENEWED.increment();
+                    slot.token.compareAndSet(current, renewed);
+                    return renewed.join().value();
+                } catch (RuntimeException | AssertionError e) {
+                    return token.value();                                     // old one is still valid
+                } finally {
+                    slot.renewing.set(false);
+                }
+            }
+            HITS.increment();
+            return token.value();
+        }
+    }
+
+    /** Forgets {@code token} after the API rejected it, unless it was replaced already. */
+    public void invalidate(String token) {
+        Slot slot = CACHE.get(key);
+        if (slot == null) return;
+        CompletableFuture<Token> current = slot.token.get();
+        if (current != null && current.isDone() && !current.isCompletedExceptionally()
+                && current.join().value().equals(token) && slot.token.compareAndSet(current, null)) {
+            INVALIDATED.increment();
+        }
+    }
+
+    /** Drops every cached token (the API behind them went away, e.g. a stopped stub). */
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    /** Tokens fetched from /auth so far, i.e. cache misses. */
+    public static long fetches() {
+        return FETCHES.sum();
+    }
+
+    /** Token traffic of the run (empty when no provider was used). */
+    public static String report() {
+        long fetches = FETCHES.sum();
+        if (fetches == 0) return "";
+        return String.format("  [auth] %d /auth requests, %d cached, %d joined a fetch, %d renewed early, %d rejected (403)",
+                fetches, HITS.sum(), JOINED.sum(), RENEWED.sum(), INVALIDATED.sum());
+    }
+
+    /* ───────────────────────── fetching ───────────────────────── */
+
+    private Token fetchInto(CompletableFuture<Token> target) {
+        try {
+            Token token = fetch();
+            target.complete(token);
+            return token;
+        } catch (RuntimeException | AssertionError e) {
+            target.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Token fetch() {
+        FETCHES.increment();
+        String value = auth.createToken(key.user(), key.password());
+        if (value == null) throw new IllegalStateException("No token for user " + key.user());
+        return new Token(value, System.nanoTime());
+    }
+
+    private static Token await(CompletableFuture<Token> fetch) {
+        try {
+            return fetch.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package api.stub;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import utils.Config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * In-process stand-in for https://restful-booker.herokuapp.com.
+ *
+ * Implements the endpoints used by {@code api.objects} with the same status
+ * codes as the public service:
+ *  - GET    /ping              → 201
+ *  - POST   /auth              → 200 {"token"} or 200 {"reason":"Bad credentials"}
+ *  - GET    /booking           → 200 [{"bookingid"}...]
+ *  - POST   /booking           → 200 {"bookingid","booking"}
+ *  - GET    /booking/{id}      → 200 booking | 404
+ *  - PUT    /booking/{id}      → 200 booking | 403 without token | 405 unknown id
+ *  - PATCH  /booking/{id}      → 200 booking | 403 without token | 405 unknown id
+ *  - DELETE /booking/{id}      → 201 | 403 without token | 405 unknown id
+ *
+ * Requests are served on virtual threads from a {@link BookingStore}.
+ * Enable for the suite with {@code -Dapi.stub=true}.
+ */
+public final class BookerStub {
+
+    private static final String USER = "admin";
+    private static final String PASS = "password123";
+    private static final String BASIC =
+            "Basic " + Base64.getEncoder().encodeToString((USER + ":" + PASS).getBytes(StandardCharsets.UTF_8));
+
+    static {
+        // The JDK server writes headers and body separately; without TCP_NODELAY every
+        // keep-alive response stalls on the client's delayed ACK (~40 ms). Read once per JVM.
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private static BookerStub shared;
+
+    private final HttpServer server;
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final BookingStore store = new BookingStore();
+    private final Set<String> tokens = ConcurrentHashMap.newKeySet();
+
+    private BookerStub(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(workers);
+        server.createContext("/ping", this::ping);
+        server.createContext("/auth", this::auth);
+        server.createContext("/booking", this::booking);
+        server.start();
+    }
+
+    /** The run-wide instance, started on first use ({@code api.stub.port}, 0 = any free port). */
+    public static synchronized BookerStub shared() {
+        if (shared == null) {
+            try {
+                shared = new BookerStub(Config.intSetting("api.stub.port", 0));
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot start restful-booker stub", e);
+            }
+            System.out.println("  [stub] restful-booker stand-in at " + shared.url());
+        }
+        return shared;
+    }
+
+    /** Stops the shared instance if it was started. */
+    public static synchronized void stopShared() {
+        if (shared != null) {
+            shared.server.stop(0);
+            shared.workers.shutdownNow();
+            shared = null;
+        }
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public BookingStore store() {
+        return store;
+    }
+
+    /* ───────────────────────── handlers ───────────────────────── */
+
+    private void ping(HttpExchange ex) throws IOException {
+        if (!"GET".equals(ex.getRequestMethod())) { send(ex, 405, "Method Not Allowed"); return; }
+        send(ex, 201, "Created");
+    }
+
+    private void auth(HttpExchange ex) throws IOException {
+        if (!"POST".equals(ex.getRequestMethod())) { send(ex, 405, "Method Not Allowed"); return; }
+        JsonObject body = readJson(ex);
+        JsonObject out = new JsonObject();
+        if (body != null && body.has("username") && body.has("password")
+                && USER.equals(body.get("username").getAsString())
+                && PASS.equals(body.get("password").getAsString())) {
+            String token = UUID.randomUUID().toString().replace("-", "").substring(0, 15);
+            tokens.add(token);
+            out.addProperty("token", token);
+        } else {
+            out.addProperty("reason", "Bad credentials");
+        }
+        sendJson(ex, 200, out.toString());
+    }
+
+    private void booking(HttpExchange ex) throws IOException {
+        String path = ex.getRequestURI().getPath().replaceAll("/+$", "");
+        String method = ex.getRequestMethod();
+
+        if ("/booking".equals(path)) {
+            switch (method) {
+                case "GET" -> {
+                    JsonArray ids = new JsonArray();
+                    for (int id : store.ids()) {
+                        JsonObject o = new JsonObject();
+                        o.addProperty("bookingid", id);
+                        ids.add(o);
+                    }
+                    sendJson(ex, 200, ids.toString());
+                }
+                case "POST" -> {
+                    JsonObject body = readJson(ex);
+                    int id;
+                    try {
+                        id = store.create(body);
+                    } catch (RuntimeException e) {            // null body or missing fields
+                        send(ex, 500, "Internal Server Error");
+                        return;
+                    }
+                    JsonObject out = new JsonObject();
+                    out.addProperty("bookingid", id);
+                    out.add("booking", store.get(id));
+                    sendJson(ex, 200, out.toString());
+                }
+                default -> send(ex, 404, "Not Found");
+            }
+            return;
+        }
+
+        int id;
+        try {
+            id = Integer.parseInt(path.substring("/booking/".length()));
+        } catch (RuntimeException e) {
+            send(ex, 404, "Not Found");
+            return;
+        }
+
+        if ("GET".equals(method)) {
+            JsonObject b = store.get(id);
+            if (b == null) send(ex, 404, "Not Found");
+            else sendJson(ex, 200, b.toString());
+            return;
+        }
+        if (!authorised(ex)) {
+            send(ex, 403, "Forbidden");
+            return;
+        }
+        switch (method) {
+            case "PUT", "PATCH" -> {
+                JsonObject body = readJson(ex);
+                JsonObject b;
+                try {
+                    b = "PUT".equals(method) ? store.replace(id, body) : store.patch(id, body);
+                } catch (RuntimeException e) {
+                    send(ex, 400, "Bad Request");
+                    return;
+                }
+                if (b == null) send(ex, 405, "Method Not Allowed");
+                else sendJson(ex, 200, b.toString());
+            }
+            case "DELETE" -> {
+                if (store.delete(id)) send(ex, 201, "Created");
+                else send(ex, 405, "Method Not Allowed");
+            }
+            default -> send(ex, 404, "Not Found");
+        }
+    }
+
+    /* ───────────────────────── helpers ───────────────────────── */
+
+    private boolean authorised(HttpExchange ex) {
+        if (BASIC.equals(ex.getRequestHeaders().getFirst("Authorization"))) return true;
+        String cookie = ex.getRequestHeaders().getFirst("Cookie");
+        if (cookie == null) return false;
+        for (String part : cookie.split(";")) {
+            String p = part.trim();
+            if (p.startsWith("token=") && tokens.contains(p.substring(6))) return true;
+        }
+        return false;
+    }
+
+    private static JsonObject readJson(HttpExchange ex) throws IOException {
+        try (InputStream in = ex.getRequestBody()) {
+            String body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            return body.isBlank() ? null : JsonParser.parseString(body).getAsJsonObject();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static void sendJson(HttpExchange ex, int status, String json) throws IOException {
+        ex.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        write(ex, status, json);
+    }
+
+    private static void send(HttpExchange ex, int status, String text) throws IOException {
+        ex.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        write(ex, status, text);
+    }
+
+    private static void write(HttpExchange ex, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        ex.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
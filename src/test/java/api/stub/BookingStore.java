@@ -0,0 +1,67 @@
+package api.stub;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrent in-memory bookings for {@link BookerStub}.
+ *
+ * Stored objects are never mutated: every write installs a new JsonObject,
+ * so readers can serialize what they got without locking.
+ */
+public final class BookingStore {
+
+    private static final List<String> FIELDS = List.of(
+            "firstname", "lastname", "totalprice", "depositpaid", "bookingdates", "additionalneeds");
+
+    private final Map<Integer, JsonObject> bookings = new ConcurrentHashMap<>();
+    private final AtomicInteger ids = new AtomicInteger();
+
+    /** Stores a booking and returns its new id; rejects payloads missing required fields. */
+    public int create(JsonObject booking) {
+        JsonObject stored = canonical(booking, null);   // a rejected payload must not use up an id
+        int id = ids.incrementAndGet();
+        bookings.put(id, stored);
+        return id;
+    }
+
+    public JsonObject get(int id) {
+        return bookings.get(id);
+    }
+
+    public List<Integer> ids() {
+        return bookings.keySet().stream().sorted().toList();
+    }
+
+    /** Full replacement (PUT); {@code null} if the booking does not exist. */
+    public JsonObject replace(int id, JsonObject booking) {
+        JsonObject fresh = canonical(booking, null);
+        return bookings.computeIfPresent(id, (k, old) -> fresh);
+    }
+
+    /** Partial update (PATCH); {@code null} if the booking does not exist. */
+    public JsonObject patch(int id, JsonObject changes) {
+        return bookings.computeIfPresent(id, (k, old) -> canonical(changes, old));
+    }
+
+    public boolean delete(int id) {
+        return bookings.remove(id) != null;
+    }
+
+    /** Copies known fields in restful-booker's order, taking missing ones from {@code base}. */
+    private static JsonObject canonical(JsonObject in, JsonObject base) {
+        JsonObject out = new JsonObject();
+        for (String f : FIELDS) {
+            JsonElement v = in.has(f) ? in.get(f) : (base != null ? base.get(f) : null);
+            if (v == null && !"additionalneeds".equals(f))
+                throw new IllegalArgumentException("missing field: " + f);
+            if (v != null) out.add(f, v.deepCopy());
+        }
+        return out;
+    }
+}
@@ -0,0 +1,99 @@
+package api.tests;
+
+import api.core.ApiCalls;
+import api.core.ApiWorker;
+import core.CurrentTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs API test classes (their {@code run()} method) and times each one.
+ *
+ * - sequential: one after another on the calling thread, sharing BaseApiTest's context.
+ * - concurrent: one virtual thread per test, each with its own {@link ApiWorker},
+ *   so the lane takes roughly as long as its slowest test.
+ */
+final class ApiLane {
+
+    /** Outcome and wall time of one API test class, and how much of it was spent in HTTP calls. */
+    record Result(Class<?> test, long nanos, long httpNanos, Throwable failure) {
+        boolean passed() { return failure == null; }
+        long millis()    { return nanos / 1_000_000; }
+    }
+
+    private ApiLane() {}
+
+    static List<Result> sequential(Class<?>[] tests) {
+        long t0 = System.nanoTime();
+        List<Result> results = new ArrayList<>();
+        for (Class<?> test : tests) results.add(print(runOne(test)));
+        report("sequential", results, System.nanoTime() - t0);
+        return results;
+    }
+
+    @SuppressWarnings("try")                            // the worker is only bound to the thread, never referenced
+    static List<Result> concurrent(Class<?>[] tests) {
+        long t0 = System.nanoTime();
+        List<Future<Result>> futures = new ArrayList<>();
+        try (ExecutorService lane = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Class<?> test : tests) {
+                futures.add(lane.submit(() -> {
+                    try (ApiWorker ignored = ApiWorker.open()) {
+                        return print(runOne(test));
+                    }
+                }));
+            }
+        }                                               // close() waits for every test
+
+        List<Result> results = new ArrayList<>();
+        for (int i = 0; i < tests.length; i++) {
+            try {
+                results.add(futures.get(i).get());
+            } catch (InterruptedException | ExecutionException e) {
+                // worker start-up itself failed
+                Throwable cause = (e.getCause() == null) ? e : e.getCause();
+                results.add(print(new Result(tests[i], 0, 0, cause)));
+            }
+        }
+        report("concurrent", results, System.nanoTime() - t0);
+        return results;
+    }
+
+    private static Result runOne(Class<?> apiTestClass) {
+        long t0 = System.nanoTime();
+        long http0 = ApiCalls.spentNanos();
+        CurrentTest.set(apiTestClass.getSimpleName());
+        try {
+            Object testInstance = apiTestClass.getDeclaredConstructor().newInstance();
+            apiTestClass.getMethod("run").invoke(testInstance);
+            return new Result(apiTestClass, System.nanoTime() - t0, ApiCalls.spentNanos() - http0, null);
+        } catch (Throwable t) {
+            Throwable cause = (t.getCause() == null) ? t : t.getCause();
+            return new Result(apiTestClass, System.nanoTime() - t0, ApiCalls.spentNanos() - http0, cause);
+        } finally {
+            CurrentTest.clear();
+        }
+    }
+
+    private static Result print(Result r) {
+        if (r.passed()) {
+            System.out.printf("[PASS] %s (%d ms)%n", r.test().getSimpleName(), r.millis());
+        } else {
+            System.err.printf("[FAIL] %s (%d ms) – %s%n", r.test().getSimpleName(), r.millis(), r.failure());
+        }
+        return r;
+    }
+
+    /** Lane wall time against the sum of per-test times (= what a sequential run costs). */
+    private static void report(String mode, List<Result> results, long laneNanos) {
+        long sumNanos = results.stream().mapToLong(Result::nanos).sum();
+        System.out.printf("[API TESTS] %s lane: %d tests, wall %d ms, sum of tests %d ms, speed-up %.2fx%n",
+                mode, results.size(), laneNanos / 1_000_000, sumNanos / 1_000_000,
+                laneNanos == 0 ? 1.0 : (double) sumNanos / laneNanos);
+    }
+}
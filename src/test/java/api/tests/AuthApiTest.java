@@ -7,7 +7,7 @@ import api.objects.AuthApi;
 public class AuthApiTest extends BaseApiTest {
     public void run() {
         System.out.println("Running AuthApiTest …");
-        String token = new AuthApi(REQ).createToken("admin", "password123");
+        String token = new AuthApi(req).createToken("admin", "password123");
         assert !token.isBlank() : "Token must not be blank";
     }
 }
\ No newline at end of file
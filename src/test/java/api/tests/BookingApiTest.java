@@ -8,8 +8,8 @@ import com.google.gson.JsonObject;
 import java.util.Map;
 
 public class BookingApiTest extends BaseApiTest {
-    private final BookingApi booking = new BookingApi(REQ);
-    private final String token = new AuthApi(REQ).createToken("admin", "password123");
+    private final BookingApi booking = new BookingApi(req);
+    private final TokenProvider auth = new TokenProvider(new AuthApi(req), "admin", "password123");
 
     public void run() {
         System.out.println("Running BookingApiTest …");
@@ -19,21 +19,21 @@ public class BookingApiTest extends BaseApiTest {
         assert id > 0;
 
         /* 2. Read */
-        JsonObject got = booking.get(id);
-        assert "Jim".equals(got.get("firstname").getAsString());
+        Booking got = booking.get(id);
+        assert "Jim".equals(got.firstname());
 
         /* 3. Update (PUT) */
-        JsonObject upd = booking.update(id, token, Map.of("firstname", "James"));
-        assert "James".equals(upd.get("firstname").getAsString());
+        Booking upd = booking.update(id, auth, Map.of("firstname", "James"));
+        assert "James".equals(upd.firstname());
 
         /* 4. Patch */
         JsonObject patch = new JsonObject();
         patch.addProperty("additionalneeds", "Lunch");
-        JsonObject upd2 = booking.patch(id, token, patch);
-        assert "Lunch".equals(upd2.get("additionalneeds").getAsString());
+        Booking upd2 = booking.patch(id, auth, patch);
+        assert "Lunch".equals(upd2.additionalneeds());
 
         /* 5. Delete */
-        booking.delete(id, token);
-        assert REQ.get("/booking/" + id).status() == 404 : "Booking must be gone";
+        booking.delete(id, auth);
+        assert req.get("/booking/" + id).status() == 404 : "Booking must be gone";
     }
 }
\ No newline at end of file
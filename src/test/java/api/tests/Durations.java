@@ -0,0 +1,133 @@
+package api.tests;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Last known duration of every test unit, keyed {@code class#method}, in ms.
+ *
+ * Sources (later ones win):
+ *  1. test-output/testng-results.xml written by TestNG for the previous UI run;
+ *  2. test-output/durations.properties that TestRunner rewrites after every run
+ *     (it also covers API tests, which TestNG never sees).
+ *
+ * With {@code --durations <file>} only that file is read. Copy it to every node
+ * so all shards plan from the same frozen input, whatever runs finish meanwhile.
+ * The store is rewritten under a lock and replaced atomically. Shards sharing a
+ * machine therefore merge their measurements instead of overwriting each other,
+ * and a reader sees either the old or the new file, never a partial one.
+ */
+final class Durations {
+
+    static final Path RESULTS_XML = Path.of("test-output", "testng-results.xml");
+    static final Path STORE       = Path.of("test-output", "durations.properties");
+
+    private Durations() {}
+
+    static String key(Class<?> test, String method) {
+        return test.getName() + "#" + method;
+    }
+
+    static Map<String, Long> load() {
+        Map<String, Long> known = new HashMap<>(fromTestNgResults());
+        fromStore(STORE).forEach(known::put);
+        return known;
+    }
+
+    /** Durations from {@code frozen} only ({@code --durations}); it must exist. */
+    static Map<String, Long> load(Path frozen) {
+        if (!Files.isRegularFile(frozen))
+            throw new IllegalArgumentException("--durations file not found: " + frozen);
+        return fromStore(frozen);
+    }
+
+    /** Merges the durations measured in this run into the store. */
+    static void record(Map<String, Long> measured) {
+        if (measured.isEmpty()) return;
+        Path lockFile = STORE.resolveSibling(STORE.getFileName() + ".lock");
+        try {
+            Files.createDirectories(STORE.toAbsolutePath().getParent());
+            try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+                FileLock lock = channel.lock();                 // against other processes sharing test-output
+                try {
+                    merge(measured);
+                } finally {
+                    lock.release();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write " + STORE, e);
+        }
+    }
+
+    // caller holds the store's lock
+    private static void merge(Map<String, Long> measured) throws IOException {
+        Map<String, Long> all = new TreeMap<>(fromStore(STORE));
+        all.putAll(measured);
+
+        Properties p = new Properties();
+        all.forEach((k, v) -> p.setProperty(k, String.valueOf(v)));
+        Path tmp = Files.createTempFile(STORE.toAbsolutePath().getParent(), "durations", ".tmp");
+        try {
+            try (Writer w = Files.newBufferedWriter(tmp)) {
+                p.store(w, "last known test durations (ms), used by --shard");
+            }
+            Files.move(tmp, STORE, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static Map<String, Long> fromStore(Path file) {
+        Map<String, Long> out = new HashMap<>();
+        if (!Files.exists(file)) return out;
+        Properties p = new Properties();
+        try (Reader r = Files.newBufferedReader(file)) {
+            p.load(r);
+        } catch (IOException e) {
+            return out;
+        }
+        p.stringPropertyNames().forEach(k -> out.put(k, Long.parseLong(p.getProperty(k))));
+        return out;
+    }
+
+    /** Sums non-config, non-skipped invocations per method (data-provider rows add up). */
+    private static Map<String, Long> fromTestNgResults() {
+        Map<String, Long> out = new HashMap<>();
+        if (!Files.exists(RESULTS_XML)) return out;
+        try {
+            NodeList classes = DocumentBuilderFactory.newInstance().newDocumentBuilder()
+                    .parse(RESULTS_XML.toFile()).getElementsByTagName("class");
+            for (int i = 0; i < classes.getLength(); i++) {
+                Element cls = (Element) classes.item(i);
+                NodeList methods = cls.getElementsByTagName("test-method");
+                for (int j = 0; j < methods.getLength(); j++) {
+                    Element m = (Element) methods.item(j);
+                    if ("true".equals(m.getAttribute("is-config")) || "SKIP".equals(m.getAttribute("status")))
+                        continue;
+                    out.merge(cls.getAttribute("name") + "#" + m.getAttribute("name"),
+                            Long.parseLong(m.getAttribute("duration-ms")), Long::sum);
+                }
+            }
+        } catch (Exception e) {
+            System.err.printf("[SHARD] ignoring unreadable %s – %s%n", RESULTS_XML, e);
+        }
+        return out;
+    }
+}
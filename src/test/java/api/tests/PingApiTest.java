@@ -7,6 +7,6 @@ import api.objects.PingApi;
 public class PingApiTest extends BaseApiTest {
     public void run() {
         System.out.println("Running PingApiTest …");
-        new PingApi(REQ).ping();            // internal assert verifies status 201
+        new PingApi(req).ping();            // internal assert verifies status 201
     }
 }
\ No newline at end of file
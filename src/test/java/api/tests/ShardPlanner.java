@@ -0,0 +1,100 @@
+package api.tests;
+
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Splits the suite into {@code n} shards balanced by historical duration.
+ *
+ * Units are API test classes (their single {@code run()}) and individual UI
+ * {@code @Test} methods. They are bin-packed with the LPT rule – longest
+ * first, each onto the currently lightest shard – which is deterministic for
+ * the same inputs, so every process/node computes the same plan as long as
+ * it sees the same {@link Durations} data.
+ */
+final class ShardPlanner {
+
+    /** Fallback estimate when no test in the suite has a recorded duration. */
+    private static final long DEFAULT_MS = 1_000;
+
+    /** One schedulable test unit. */
+    record Unit(Class<?> test, String method, long estimateMs) {
+        String key() { return Durations.key(test, method); }
+    }
+
+    /** 1-based shard index out of {@code count}. */
+    record Shard(int index, int count) {
+        static final Shard ALL = new Shard(1, 1);
+
+        /** Parses {@code i/n}, e.g. {@code 2/4}. */
+        static Shard parse(String spec) {
+            String[] parts = spec.split("/");
+            if (parts.length != 2)
+                throw new IllegalArgumentException("--shard expects i/n, got: " + spec);
+            Shard s = new Shard(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+            if (s.count < 1 || s.index < 1 || s.index > s.count)
+                throw new IllegalArgumentException("--shard index must be within 1.." + s.count + ", got: " + spec);
+            return s;
+        }
+
+        @Override public String toString() { return index + "/" + count; }
+    }
+
+    private ShardPlanner() {}
+
+    /** Every unit of the given lanes with its duration estimate. */
+    static List<Unit> units(Class<?>[] apiTests, Class<?>[] uiTests, Map<String, Long> known) {
+        List<String> keys = new ArrayList<>();
+        List<Class<?>> owners = new ArrayList<>();
+        for (Class<?> api : apiTests) {
+            keys.add("run");
+            owners.add(api);
+        }
+        for (Class<?> ui : uiTests) {
+            Arrays.stream(ui.getMethods())
+                    .filter(m -> m.isAnnotationPresent(Test.class))
+                    .map(Method::getName)
+                    .sorted()
+                    .forEach(m -> { keys.add(m); owners.add(ui); });
+        }
+
+        long fallback = (long) known.values().stream().mapToLong(Long::longValue).average().orElse(DEFAULT_MS);
+        List<Unit> units = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            Long ms = known.get(Durations.key(owners.get(i), keys.get(i)));
+            units.add(new Unit(owners.get(i), keys.get(i), ms != null ? ms : fallback));
+        }
+        return units;
+    }
+
+    /** Units assigned to {@code shard}; prints the expected load of every shard. */
+    static List<Unit> plan(List<Unit> units, Shard shard) {
+        if (shard.count() == 1) return units;
+
+        List<Unit> ordered = new ArrayList<>(units);
+        ordered.sort(Comparator.comparingLong(Unit::estimateMs).reversed().thenComparing(Unit::key));
+
+        long[] load = new long[shard.count()];
+        List<List<Unit>> bins = new ArrayList<>();
+        for (int i = 0; i < shard.count(); i++) bins.add(new ArrayList<>());
+
+        for (Unit u : ordered) {
+            int lightest = 0;
+            for (int i = 1; i < load.length; i++) if (load[i] < load[lightest]) lightest = i;
+            bins.get(lightest).add(u);
+            load[lightest] += u.estimateMs();
+        }
+
+        for (int i = 0; i < load.length; i++) {
+            System.out.printf("[SHARD] %d/%d: %d tests, expected %d ms%s%n", i + 1, shard.count(),
+                    bins.get(i).size(), load[i], i + 1 == shard.index() ? "  <- this process" : "");
+        }
+        return bins.get(shard.index() - 1);
+    }
+}
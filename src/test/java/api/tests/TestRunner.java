@@ -2,9 +2,34 @@
 package api.tests;
 
 import api.core.BaseApiTest;
+import api.load.LoadProfile;
+import api.load.LoadRunner;
+import api.objects.TokenProvider;
+import core.PlaywrightRuntime;
+import core.jfr.FlightRecording;
+import org.testng.ITestResult;
 import org.testng.TestListenerAdapter;
 import org.testng.TestNG;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import pages.ActionTimings;
+import pages.WaitStats;
+import ui.core.FailureArtifacts;
+import ui.core.ContextPool;
+import ui.core.NetworkPolicy;
+import ui.stub.SiteStub;
 import ui.tests.*;
+import utils.Config;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * TestRunner runs API tests by invoking their run() method,
@@ -13,7 +38,30 @@ import ui.tests.*;
  * Usage:
  *  - no args: run all (API + UI)
  *  - "api": run only API tests
- *  - "ui": run only UI tests
+ *  - "ui": run only UI tests (browser-free lane included)
+ *  - "validation": run only the browser-free lane
+ *  - "load": drive the booking API with many users instead of testing
+ *    (see {@link LoadRunner}, {@code load.*} settings)
+ *  - "--shard i/n" (with or without a mode): run only the i-th of n shards,
+ *    balanced by historical duration (see {@link ShardPlanner})
+ *  - "--durations file": plan the shards from that durations file only, so every
+ *    node splits the suite the same way
+ *  - "--class Name" / "--method name": run only matching test classes
+ *    (simple or qualified name) and/or methods; API tests have one method, "run"
+ *
+ * Every run appends its per-test durations to a timing history and reports
+ * tests that got slower than their recent median (see {@link TimingHistory}).
+ *
+ * UI classes run one after another unless {@code -Dui.threads=N} (N > 1)
+ * is given; then TestNG runs N classes at a time, each worker thread
+ * with its own {@link PlaywrightRuntime}. Otherwise the API and UI lanes share
+ * one driver and one browser, started on first use and closed at the end.
+ * With {@code -Dapi.concurrent=true} the API tests run side by side on
+ * virtual threads (see {@link ApiLane}).
+ *
+ * The browser-free lane holds UI-side suites that only exercise form rules
+ * (see {@code pages.validation}); it runs through TestNG before the browser
+ * lane, without Playwright, so a broken rule fails the run in milliseconds.
  */
 public class TestRunner {
 
@@ -23,11 +71,15 @@ public class TestRunner {
             BookingApiTest.class
     };
 
+    private static final Class<?>[] BROWSER_FREE_TESTS = {
+            BookingValidationTest.class,
+            ContactFormValidationTest.class
+    };
+
     private static final Class<?>[] UI_TESTS = {
             BookingFlowTest.class,
             AdminLoginTest.class,
             AdminBookingReportTest.class,
-            BookingValidationTest.class,
             ContactUsTest.class,
             DeleteBookingAdminTest.class,
             NavigationLinksTest.class,
@@ -35,64 +87,228 @@ public class TestRunner {
     };
 
     public static void main(String[] args) {
-        boolean apiOnly = args.length > 0 && "api".equalsIgnoreCase(args[0]);
-        boolean uiOnly = args.length > 0 && "ui".equalsIgnoreCase(args[0]);
+        int status = run(args);
+        if (status != 0) {
+            System.exit(status);
+        }
+    }
+
+    /**
+     * One complete run; returns the process exit status (0 = everything passed).
+     * Runtimes retained by the caller (the resident daemon) are left open.
+     * With {@code -Djfr=true} the run is flight-recorded (see {@link FlightRecording}).
+     */
+    public static int run(String[] args) {
+        FlightRecording.start();
+        try {
+            return runModes(args);
+        } finally {
+            FlightRecording.stop();
+        }
+    }
+
+    private static int runModes(String[] args) {
+        String mode = null;
+        String onlyClass = null;
+        String onlyMethod = null;
+        ShardPlanner.Shard shard = ShardPlanner.Shard.ALL;
+        Path frozenDurations = null;
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].startsWith("--shard=")) shard = ShardPlanner.Shard.parse(args[i].substring(8));
+            else if ("--shard".equals(args[i]) && i + 1 < args.length) shard = ShardPlanner.Shard.parse(args[++i]);
+            else if (args[i].startsWith("--durations=")) frozenDurations = Path.of(args[i].substring(12));
+            else if ("--durations".equals(args[i]) && i + 1 < args.length) frozenDurations = Path.of(args[++i]);
+            else if ("--class".equals(args[i]) && i + 1 < args.length) onlyClass = args[++i];
+            else if ("--method".equals(args[i]) && i + 1 < args.length) onlyMethod = args[++i];
+            else if (mode == null && !args[i].isBlank()) mode = args[i];
+        }
+        if ("load".equalsIgnoreCase(mode)) {
+            boolean passed = LoadRunner.run(LoadProfile.fromConfig());
+            BaseApiTest.shutdown();
+            return passed ? 0 : 1;
+        }
+
+        boolean apiOnly = "api".equalsIgnoreCase(mode);
+        boolean uiOnly = "ui".equalsIgnoreCase(mode);
+        boolean validationOnly = "validation".equalsIgnoreCase(mode);
+
+        // Pick this shard's units (everything when not sharded)
+        Class<?>[] testNgTests = apiOnly ? new Class<?>[0]
+                : validationOnly ? BROWSER_FREE_TESTS
+                : concat(BROWSER_FREE_TESTS, UI_TESTS);
+        List<ShardPlanner.Unit> units = ShardPlanner.units(
+                uiOnly || validationOnly ? new Class<?>[0] : API_TESTS,
+                testNgTests,
+                frozenDurations != null ? Durations.load(frozenDurations) : Durations.load());
+        String cls = onlyClass;
+        String method = onlyMethod;
+        units = units.stream()
+                .filter(u -> cls == null || cls.equals(u.test().getSimpleName()) || cls.equals(u.test().getName()))
+                .filter(u -> method == null || method.equals(u.method()))
+                .toList();
+        if (units.isEmpty() && (cls != null || method != null)) {
+            System.err.println("No test matches" + (cls == null ? "" : " --class " + cls) + (method == null ? "" : " --method " + method));
+            return 2;
+        }
+        List<ShardPlanner.Unit> planned = ShardPlanner.plan(units, shard);
+        Class<?>[] apiTests = planned.stream()
+                .map(ShardPlanner.Unit::test)
+                .filter(c -> Arrays.asList(API_TESTS).contains(c))
+                .toArray(Class<?>[]::new);
+        Map<Class<?>, List<String>> browserFreeMethods = methodsOf(planned, BROWSER_FREE_TESTS);
+        Map<Class<?>, List<String>> uiMethods = methodsOf(planned, UI_TESTS);
 
+        boolean ownsRuntime = !PlaywrightRuntime.retained();
+        PlaywrightRuntime.retain();                 // one driver/browser for the whole run, closed below
+        Map<String, Long> measured = new HashMap<>();
+        TimingHistory timings = new TimingHistory();
         int passedApiTests = 0;
         int totalApiTests = 0;
 
         // Run API tests by calling run() method on each test class instance
-        if (!uiOnly) {
-            totalApiTests = API_TESTS.length;
-            for (Class<?> apiTestClass : API_TESTS) {
-                try {
-                    Object testInstance = apiTestClass.getDeclaredConstructor().newInstance();
-                    apiTestClass.getMethod("run").invoke(testInstance);
-                    System.out.printf("[PASS] %s%n", apiTestClass.getSimpleName());
-                    passedApiTests++;
-                } catch (Throwable t) {
-                    Throwable cause = (t.getCause() == null) ? t : t.getCause();
-                    System.err.printf("[FAIL] %s – %s%n", apiTestClass.getSimpleName(), cause);
-                }
+        if (apiTests.length > 0) {
+            totalApiTests = apiTests.length;
+            List<ApiLane.Result> results = Config.API_CONCURRENT
+                    ? ApiLane.concurrent(apiTests)
+                    : ApiLane.sequential(apiTests);
+            passedApiTests = (int) results.stream().filter(ApiLane.Result::passed).count();
+            results.forEach(r -> measured.put(Durations.key(r.test(), "run"), r.millis()));
+            timings.api(results);
+            String authReport = TokenProvider.report();
+            if (!authReport.isEmpty()) System.out.println(authReport);
+        }
+
+        int passedBrowserFree = 0;
+        int totalBrowserFree = 0;
+
+        // Run the browser-free lane: form rules only, no Playwright
+        if (!browserFreeMethods.isEmpty()) {
+            long t0 = System.nanoTime();
+            TestListenerAdapter tla = runTestNg(suite("Browser-free suite", "Browser-free tests",
+                    browserFreeMethods, shard, false), measured, timings);
+            passedBrowserFree = tla.getPassedTests().size();
+            int failed = tla.getFailedTests().size();
+            int skipped = tla.getSkippedTests().size();
+            totalBrowserFree = passedBrowserFree + failed + skipped;
+
+            System.out.printf("[BROWSER-FREE] Passed: %d, Failed: %d, Skipped: %d in %.1f ms%n",
+                    passedBrowserFree, failed, skipped, (System.nanoTime() - t0) / 1e6);
+            if (failed > 0 || skipped > 0) {
+                System.err.println("[BROWSER-FREE] Some validation tests failed or were skipped.");
             }
         }
 
         int passedUiTests = 0;
-        int totalUiTests = UI_TESTS.length;
+        int totalUiTests = 0;
 
         // Run UI tests with TestNG if needed
-        if (!apiOnly) {
-            TestNG testng = new TestNG();
-            testng.setTestClasses(UI_TESTS);
-            TestListenerAdapter tla = new TestListenerAdapter();
-            testng.addListener(tla);
-            testng.run();
+        if (!uiMethods.isEmpty()) {
+            TestListenerAdapter tla = runTestNg(suite("UI suite", "UI tests",
+                    uiMethods, shard, PlaywrightRuntime.parallelUi()), measured, timings);
 
             passedUiTests = tla.getPassedTests().size();
             int failedUiTests = tla.getFailedTests().size();
             int skippedUiTests = tla.getSkippedTests().size();
+            totalUiTests = passedUiTests + failedUiTests + skippedUiTests;
 
             System.out.printf("[UI TESTS] Passed: %d, Failed: %d, Skipped: %d%n", passedUiTests, failedUiTests, skippedUiTests);
+            System.out.println(WaitStats.report());
+            String actionReport = ActionTimings.report();
+            if (!actionReport.isEmpty()) System.out.println(actionReport);
+            ActionTimings.export();
+            FailureArtifacts.flush();
+            String traceReport = FailureArtifacts.report();
+            if (!traceReport.isEmpty()) System.out.println(traceReport);
+            String poolReport = ContextPool.report();
+            if (!poolReport.isEmpty()) System.out.println(poolReport);
+            String networkReport = NetworkPolicy.report();
+            if (!networkReport.isEmpty()) System.out.println(networkReport);
+            NetworkPolicy.persist();
+            if (PlaywrightRuntime.parallelUi()) {
+                System.out.printf("[UI TESTS] Parallel workers used: %d of %d%n", PlaywrightRuntime.browsers(), Config.UI_THREADS);
+            }
 
             if (failedUiTests > 0 || skippedUiTests > 0) {
                 System.err.println("[UI TESTS] Some UI tests failed or were skipped.");
             }
         }
 
-        // Cleanup API test resources
+        // Cleanup: API context and stubs, then the shared driver/browser – once
         BaseApiTest.shutdown();
+        SiteStub.stopShared();
+        String runtimeReport = PlaywrightRuntime.report();
+        if (!runtimeReport.isEmpty()) System.out.println(runtimeReport);
+        if (ownsRuntime) PlaywrightRuntime.shutdown();
+        else PlaywrightRuntime.shutdownOtherThreads();      // daemon keeps its own runtime warm
+        Durations.record(measured);
+        List<TimingHistory.Regression> regressions = timings.finish();
 
         // Summary
-        int totalPassed = passedApiTests + passedUiTests;
-        int totalTests = (uiOnly ? totalUiTests : 0) + (apiOnly ? totalApiTests : 0);
-        if (!uiOnly && !apiOnly) {
-            totalTests = totalApiTests + totalUiTests;
+        int totalPassed = passedApiTests + passedBrowserFree + passedUiTests;
+        int totalTests = totalApiTests + totalBrowserFree + totalUiTests;
+
+        System.out.printf("%nSUMMARY: %d/%d tests passed%s%n", totalPassed, totalTests,
+                shard.count() > 1 ? " (shard " + shard + ")" : "");
+
+        if (TimingHistory.FAIL_ON_REGRESSION && !regressions.isEmpty()) {
+            System.err.printf("[TIMING] failing the run: %d regressions (timing.failOnRegression)%n", regressions.size());
+            return 1;
+        }
+        return totalPassed == totalTests ? 0 : 1;
+    }
+
+    /** Runs one suite and adds its per-method durations to {@code measured} and {@code timings}. */
+    private static TestListenerAdapter runTestNg(XmlSuite suite, Map<String, Long> measured, TimingHistory timings) {
+        TestNG testng = new TestNG();
+        testng.setXmlSuites(List.of(suite));
+        TestListenerAdapter tla = new TestListenerAdapter();
+        testng.addListener(tla);
+        testng.addListener(timings.listener());
+        testng.run();
+
+        for (List<ITestResult> group : List.of(tla.getPassedTests(), tla.getFailedTests())) {
+            for (ITestResult r : group) {
+                measured.merge(Durations.key(r.getTestClass().getRealClass(), r.getMethod().getMethodName()),
+                        r.getEndMillis() - r.getStartMillis(), Long::sum);
+            }
         }
+        return tla;
+    }
 
-        System.out.printf("%nSUMMARY: %d/%d tests passed%n", totalPassed, totalTests);
+    /** The planned methods of the given classes, grouped by class in plan order. */
+    private static Map<Class<?>, List<String>> methodsOf(List<ShardPlanner.Unit> planned, Class<?>[] lane) {
+        Map<Class<?>, List<String>> methods = new LinkedHashMap<>();
+        planned.stream()
+                .filter(u -> Arrays.asList(lane).contains(u.test()))
+                .forEach(u -> methods.computeIfAbsent(u.test(), k -> new ArrayList<>()).add(u.method()));
+        return methods;
+    }
+
+    private static Class<?>[] concat(Class<?>[] a, Class<?>[] b) {
+        Class<?>[] out = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, out, a.length, b.length);
+        return out;
+    }
 
-        if (totalPassed != totalTests) {
-            System.exit(1);
+    /** One TestNG suite holding exactly the planned methods. */
+    private static XmlSuite suite(String suiteName, String testName, Map<Class<?>, List<String>> methods,
+                                  ShardPlanner.Shard shard, boolean parallel) {
+        XmlSuite suite = new XmlSuite();
+        suite.setName(suiteName);
+        if (parallel) {
+            suite.setParallel(XmlSuite.ParallelMode.CLASSES);
+            suite.setThreadCount(Config.UI_THREADS);
         }
+
+        XmlTest test = new XmlTest(suite);
+        test.setName(shard.count() > 1 ? testName + " – shard " + shard : testName);
+        List<XmlClass> classes = new ArrayList<>();
+        methods.forEach((cls, names) -> {
+            XmlClass xc = new XmlClass(cls);
+            xc.setIncludedMethods(names.stream().map(XmlInclude::new).toList());
+            classes.add(xc);
+        });
+        test.setXmlClasses(classes);
+        return suite;
     }
 }
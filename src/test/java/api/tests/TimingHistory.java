@@ -0,0 +1,321 @@
+package api.tests;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.testng.IConfigurationListener;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import utils.Config;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Append-only timing history of every test execution, with regression checks.
+ *
+ * - Each run appends one JSON line per test to {@code timing.history}
+ *   (default test-output/timing-history.jsonl), keyed {@code class#method} plus
+ *   data-provider arguments. A line holds the status, the duration and its phases:
+ *   setup / body / teardown for TestNG tests, http / other for API tests.
+ * - At the end of the run a passed test is flagged when it took more than
+ *   {@code timing.threshold} (default 1.5) times the median of its last
+ *   {@code timing.window} (default 10) passed runs, and at least
+ *   {@code timing.minDeltaMs} (default 500) longer. At least
+ *   {@code timing.minRuns} (default 3) earlier runs are needed. The phase
+ *   that grew most is named next to it.
+ * - {@code timing.trend} (default test-output/timing-trend.txt) shows every test
+ *   of the run with its median, latest time and last runs as a sparkline.
+ * - {@code timing.failOnRegression=true} makes a flagged test fail the run.
+ */
+final class TimingHistory {
+
+    static final Path    HISTORY            = Path.of(Config.setting("timing.history", "test-output/timing-history.jsonl"));
+    static final Path    TREND              = Path.of(Config.setting("timing.trend", "test-output/timing-trend.txt"));
+    static final int     WINDOW             = Config.intSetting("timing.window", 10);
+    static final int     MIN_RUNS           = Config.intSetting("timing.minRuns", 3);
+    static final double  THRESHOLD          = Double.parseDouble(Config.setting("timing.threshold", "1.5"));
+    static final long    MIN_DELTA_MS       = Config.intSetting("timing.minDeltaMs", 500);
+    static final boolean FAIL_ON_REGRESSION = Config.flag("timing.failOnRegression", false);
+
+    private static final int SPARK_RUNS = 20;
+    private static final String SPARKS = "▁▂▃▄▅▆▇█";
+    private static final Gson GSON = new Gson();
+
+    /** One execution of one test; phases are filled in as TestNG reports them. */
+    static final class Entry {
+        final String key;
+        final String status;
+        long ms;                                        // whole test: grows by the teardown for TestNG tests
+        final Map<String, Long> phases = new LinkedHashMap<>();
+
+        Entry(String key, String status, long ms) {
+            this.key = key;
+            this.status = status;
+            this.ms = ms;
+        }
+
+        boolean passed() { return "PASS".equals(status); }
+    }
+
+    /** A test that ran slower than its history allows. */
+    record Regression(Entry entry, long medianMs, int runs, String phase, long phaseDeltaMs) {
+        @Override public String toString() {
+            return String.format("%s: %d ms, median %d ms of last %d runs (x%.1f)%s", entry.key, entry.ms, medianMs, runs,
+                    (double) entry.ms / Math.max(medianMs, 1), phase == null ? "" : ", " + phase + " +" + phaseDeltaMs + " ms");
+        }
+    }
+
+    private final String run = Instant.now().truncatedTo(ChronoUnit.SECONDS).toString();
+    private final List<Entry> entries = Collections.synchronizedList(new ArrayList<>());
+
+    static String key(Class<?> test, String method, Object[] params) {
+        return Durations.key(test, method) + (params == null || params.length == 0 ? "" : Arrays.toString(params));
+    }
+
+    /** Adds the API lane's results; "other" is the test's own work between requests. */
+    void api(List<ApiLane.Result> results) {
+        for (ApiLane.Result r : results) {
+            Entry e = new Entry(key(r.test(), "run", null), r.passed() ? "PASS" : "FAIL", r.millis());
+            e.phases.put("http", r.httpNanos() / 1_000_000);
+            e.phases.put("other", (r.nanos() - r.httpNanos()) / 1_000_000);
+            entries.add(e);
+        }
+    }
+
+    /** TestNG listener recording this run's test methods with their setup / body / teardown. */
+    Listener listener() {
+        return new Listener();
+    }
+
+    /**
+     * Per thread the order is always: @BeforeMethods, the test, @AfterMethods.
+     * Set-up time is therefore held until the next test starts on that thread,
+     * and tear-down time goes to the test that last finished there.
+     */
+    final class Listener implements ITestListener, IConfigurationListener {
+
+        private final ThreadLocal<long[]> setup = ThreadLocal.withInitial(() -> new long[1]);
+        private final ThreadLocal<Entry> last = new ThreadLocal<>();
+
+        @Override public void onTestSuccess(ITestResult r) { finished(r, "PASS"); }
+        @Override public void onTestFailure(ITestResult r) { finished(r, "FAIL"); }
+        @Override public void onTestSkipped(ITestResult r) { setup.get()[0] = 0; }
+
+        @Override public void onConfigurationSuccess(ITestResult r, ITestNGMethod test) { configured(r); }
+        @Override public void onConfigurationFailure(ITestResult r, ITestNGMethod test) { configured(r); }
+
+        private void finished(ITestResult r, String status) {
+            long body = r.getEndMillis() - r.getStartMillis();
+            long[] pending = setup.get();
+            Entry e = new Entry(key(r.getTestClass().getRealClass(), r.getMethod().getMethodName(), r.getParameters()),
+                    status, pending[0] + body);
+            e.phases.put("setup", pending[0]);
+            e.phases.put("body", body);
+            e.phases.put("teardown", 0L);
+            pending[0] = 0;
+            last.set(e);
+            entries.add(e);
+        }
+
+        private void configured(ITestResult r) {
+            long ms = r.getEndMillis() - r.getStartMillis();
+            ITestNGMethod m = r.getMethod();
+            if (m.isBeforeMethodConfiguration()) {
+                setup.get()[0] += ms;
+            } else if (m.isAfterMethodConfiguration() && last.get() != null) {
+                Entry e = last.get();
+                e.phases.merge("teardown", ms, Long::sum);
+                e.ms += ms;
+            }
+        }
+    }
+
+    /**
+     * Appends this run, checks it against the history and writes the trend report.
+     * Returns the regressions found (printed already).
+     */
+    List<Regression> finish() {
+        if (entries.isEmpty()) return List.of();
+        List<Entry> current;
+        synchronized (entries) {
+            current = new ArrayList<>(entries);
+        }
+        Map<String, Deque<JsonObject>> past = load(current.stream().map(e -> e.key).collect(Collectors.toSet()));
+        append(current);
+
+        List<Regression> regressions = new ArrayList<>();
+        for (Entry e : current) {
+            Regression r = check(e, past.getOrDefault(e.key, new ArrayDeque<>()));
+            if (r != null) regressions.add(r);
+        }
+        writeTrend(current, past, regressions);
+
+        System.out.printf("[TIMING] %d results appended to %s, trend: %s%n", current.size(), HISTORY, TREND);
+        regressions.forEach(r -> System.err.println("[TIMING] REGRESSION " + r));
+        return regressions;
+    }
+
+    /* ───────────────────────── store ───────────────────────── */
+
+    /** Last {@link #WINDOW} (or {@link #SPARK_RUNS}) passed runs of each of {@code keys}, oldest first. */
+    private static Map<String, Deque<JsonObject>> load(Set<String> keys) {
+        Map<String, Deque<JsonObject>> past = new HashMap<>();
+        if (!Files.exists(HISTORY)) return past;
+        int keep = Math.max(WINDOW, SPARK_RUNS);
+        int unreadable = 0;
+        try (BufferedReader in = Files.newBufferedReader(HISTORY, StandardCharsets.UTF_8)) {
+            for (String line; (line = in.readLine()) != null; ) {
+                if (line.isBlank()) continue;
+                JsonObject o;
+                try {
+                    o = JsonParser.parseString(line).getAsJsonObject();
+                } catch (RuntimeException e) {
+                    unreadable++;                        // e.g. a line cut short by a killed run
+                    continue;
+                }
+                String key = o.get("test").getAsString();
+                if (!keys.contains(key) || !"PASS".equals(o.get("status").getAsString())) continue;
+                Deque<JsonObject> runs = past.computeIfAbsent(key, k -> new ArrayDeque<>());
+                runs.addLast(o);
+                if (runs.size() > keep) runs.removeFirst();
+            }
+        } catch (IOException e) {
+            System.err.printf("[TIMING] ignoring unreadable %s – %s%n", HISTORY, e);
+        }
+        if (unreadable > 0) System.err.printf("[TIMING] skipped %d unreadable lines of %s%n", unreadable, HISTORY);
+        return past;
+    }
+
+    private void append(List<Entry> current) {
+        try {
+            Files.createDirectories(HISTORY.toAbsolutePath().getParent());
+            try (Writer w = Files.newBufferedWriter(HISTORY, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (Entry e : current) w.write(GSON.toJson(json(e)) + "\n");
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot append to " + HISTORY, e);
+        }
+    }
+
+    private JsonObject json(Entry e) {
+        JsonObject o = new JsonObject();
+        o.addProperty("run", run);
+        o.addProperty("test", e.key);
+        o.addProperty("status", e.status);
+        o.addProperty("ms", e.ms);
+        JsonObject phases = new JsonObject();
+        e.phases.forEach(phases::addProperty);
+        o.add("phases", phases);
+        return o;
+    }
+
+    /* ───────────────────────── regression check ───────────────────────── */
+
+    private static Regression check(Entry e, Deque<JsonObject> runs) {
+        if (!e.passed()) return null;
+        List<JsonObject> window = lastRuns(runs, WINDOW);
+        if (window.size() < MIN_RUNS) return null;
+        long median = median(window.stream().map(o -> o.get("ms").getAsLong()).toList());
+        if (e.ms <= median * THRESHOLD || e.ms - median < MIN_DELTA_MS) return null;
+
+        String grown = null;
+        long grownBy = 0;
+        for (Map.Entry<String, Long> p : e.phases.entrySet()) {
+            List<Long> history = new ArrayList<>();
+            for (JsonObject o : window) {
+                JsonElement v = o.has("phases") ? o.getAsJsonObject("phases").get(p.getKey()) : null;
+                if (v != null) history.add(v.getAsLong());
+            }
+            if (history.isEmpty()) continue;
+            long delta = p.getValue() - median(history);
+            if (delta > grownBy) {
+                grown = p.getKey();
+                grownBy = delta;
+            }
+        }
+        return new Regression(e, median, window.size(), grown, grownBy);
+    }
+
+    private static List<JsonObject> lastRuns(Deque<JsonObject> runs, int n) {
+        List<JsonObject> all = new ArrayList<>(runs);
+        return all.subList(Math.max(0, all.size() - n), all.size());
+    }
+
+    private static long median(List<Long> values) {
+        List<Long> sorted = new ArrayList<>(values);
+        sorted.sort(Comparator.naturalOrder());
+        int n = sorted.size();
+        return n % 2 == 1 ? sorted.get(n / 2) : (sorted.get(n / 2 - 1) + sorted.get(n / 2)) / 2;
+    }
+
+    /* ───────────────────────── trend report ───────────────────────── */
+
+    private void writeTrend(List<Entry> current, Map<String, Deque<JsonObject>> past, List<Regression> regressions) {
+        Set<String> flagged = regressions.stream().map(r -> r.entry().key).collect(Collectors.toSet());
+        Map<String, Entry> byKey = new TreeMap<>();
+        current.forEach(e -> byKey.put(e.key, e));
+
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("Timing trend, run %s (median of last %d passed runs; sparkline: last %d runs, this one last)%n%n",
+                run, WINDOW, SPARK_RUNS));
+        out.append(String.format("%-9s %6s %9s %9s %8s  %-" + SPARK_RUNS + "s  %s%n",
+                "", "runs", "median", "this", "change", "trend", "test"));
+        for (Entry e : byKey.values()) {
+            List<JsonObject> runs = new ArrayList<>(past.getOrDefault(e.key, new ArrayDeque<>()));
+            List<Long> window = lastRuns(new ArrayDeque<>(runs), WINDOW).stream().map(o -> o.get("ms").getAsLong()).toList();
+            List<Long> spark = new ArrayList<>(runs.stream().map(o -> o.get("ms").getAsLong()).toList());
+            spark.add(e.ms);
+            long median = window.isEmpty() ? -1 : median(window);
+            out.append(String.format("%-9s %6d %9s %9d %8s  %-" + SPARK_RUNS + "s  %s%n",
+                    flagged.contains(e.key) ? "REGRESSED" : e.passed() ? "" : e.status,
+                    window.size(),
+                    median < 0 ? "-" : median + " ms",
+                    e.ms,
+                    median <= 0 ? "-" : String.format("%+.0f%%", 100.0 * (e.ms - median) / median),
+                    sparkline(spark.subList(Math.max(0, spark.size() - SPARK_RUNS), spark.size())),
+                    e.key));
+        }
+        try {
+            Files.createDirectories(TREND.toAbsolutePath().getParent());
+            Files.writeString(TREND, out, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write " + TREND, e);
+        }
+    }
+
+    private static String sparkline(List<Long> values) {
+        long min = values.stream().mapToLong(Long::longValue).min().orElse(0);
+        long max = values.stream().mapToLong(Long::longValue).max().orElse(0);
+        StringBuilder s = new StringBuilder();
+        for (long v : values) {
+            int level = max == min ? 0 : (int) ((v - min) * (SPARKS.length() - 1) / (max - min));
+            s.append(SPARKS.charAt(level));
+        }
+        return s.toString();
+    }
+}
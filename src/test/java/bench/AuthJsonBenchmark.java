@@ -0,0 +1,63 @@
+package bench;
+
+import api.objects.AuthApi;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link AuthApi}: building the /auth payload and pulling the token out of the
+ * response: Gson against Jackson, plus the streaming decoder AuthApi uses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AuthJsonBenchmark {
+
+    static final String AUTH_RESPONSE = "{\"token\":\"abc123def456abc\"}";
+    static final byte[] AUTH_BYTES = AUTH_RESPONSE.getBytes(StandardCharsets.UTF_8);
+
+    private final Gson gson = new Gson();
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    @Benchmark
+    public String gsonPayload() {
+        return gson.toJson(AuthApi.credentials("admin", "password123"));
+    }
+
+    @Benchmark
+    public String jacksonPayload() throws JsonProcessingException {
+        ObjectNode payload = mapper.createObjectNode();
+        payload.put("username", "admin");
+        payload.put("password", "password123");
+        return mapper.writeValueAsString(payload);
+    }
+
+    // the token paths start from the response bytes, as APIResponse hands them over
+
+    @Benchmark
+    public String gsonToken() {
+        return JsonParser.parseString(new String(AUTH_BYTES, StandardCharsets.UTF_8))
+                .getAsJsonObject().get("token").getAsString();
+    }
+
+    @Benchmark
+    public String streamingToken() {
+        return AuthApi.token(AUTH_BYTES);
+    }
+
+    @Benchmark
+    public String jacksonToken() throws IOException {
+        return mapper.readTree(AUTH_BYTES).get("token").asText();
+    }
+}
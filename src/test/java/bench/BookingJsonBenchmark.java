@@ -0,0 +1,126 @@
+package bench;
+
+import api.objects.BookingApi;
+import api.objects.ResponseDecoder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request building and response parsing of {@link BookingApi}: Gson against
+ * Jackson (already on the classpath).
+ *
+ * - build / serialize: {@code sampleBooking()} and the JSON text Playwright
+ *   sends for it ({@code RequestOptions.setData} runs Gson's toJson).
+ * - parse: {@code JsonParser.parseString(r.text())} on a create response, as
+ *   BookingApi did before the streaming decoder, then reading the id.
+ * - typed: binding the same response to records.
+ * - streaming: {@link ResponseDecoder}, what BookingApi now uses, from the bytes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BookingJsonBenchmark {
+
+    static final String CREATE_RESPONSE = """
+            {"bookingid":1234,"booking":{"firstname":"Jim","lastname":"Brown","totalprice":111,\
+            "depositpaid":true,"bookingdates":{"checkin":"2023-07-01","checkout":"2023-07-10"},\
+            "additionalneeds":"Breakfast"}}""";
+    static final byte[] CREATE_BYTES = CREATE_RESPONSE.getBytes(StandardCharsets.UTF_8);
+    static final byte[] BOOKING_BYTES = """
+            {"firstname":"Jim","lastname":"Brown","totalprice":111,"depositpaid":true,\
+            "bookingdates":{"checkin":"2023-07-01","checkout":"2023-07-10"},"additionalneeds":"Breakfast"}"""
+            .getBytes(StandardCharsets.UTF_8);
+
+    public record Dates(String checkin, String checkout) {}
+    public record Booking(String firstname, String lastname, int totalprice, boolean depositpaid,
+                          Dates bookingdates, String additionalneeds) {}
+    public record Created(int bookingid, Booking booking) {}
+
+    private final Gson gson = new Gson();
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    /* ── request body ── */
+
+    @Benchmark
+    public JsonObject gsonBuild() {
+        return BookingApi.sampleBooking();
+    }
+
+    @Benchmark
+    public String gsonBuildAndSerialize() {
+        return gson.toJson(BookingApi.sampleBooking());
+    }
+
+    @Benchmark
+    public ObjectNode jacksonBuild() {
+        return jacksonSampleBooking();
+    }
+
+    @Benchmark
+    public String jacksonBuildAndSerialize() throws JsonProcessingException {
+        return mapper.writeValueAsString(jacksonSampleBooking());
+    }
+
+    private ObjectNode jacksonSampleBooking() {
+        ObjectNode b = mapper.createObjectNode();
+        b.put("firstname", "Jim");
+        b.put("lastname", "Brown");
+        b.put("totalprice", 111);
+        b.put("depositpaid", true);
+        ObjectNode dates = b.putObject("bookingdates");
+        dates.put("checkin", "2023-07-01");
+        dates.put("checkout", "2023-07-10");
+        b.put("additionalneeds", "Breakfast");
+        return b;
+    }
+
+    /* ── response parsing ── */
+
+    @Benchmark
+    public int gsonParseTree() {
+        return JsonParser.parseString(CREATE_RESPONSE).getAsJsonObject().get("bookingid").getAsInt();
+    }
+
+    @Benchmark
+    public int jacksonParseTree() throws JsonProcessingException {
+        JsonNode root = mapper.readTree(CREATE_RESPONSE);
+        return root.get("bookingid").asInt();
+    }
+
+    @Benchmark
+    public int streamingBookingId() {
+        return ResponseDecoder.bookingId(CREATE_BYTES);
+    }
+
+    @Benchmark
+    public JsonObject gsonParseBooking() {
+        return JsonParser.parseString(new String(BOOKING_BYTES, StandardCharsets.UTF_8)).getAsJsonObject();
+    }
+
+    @Benchmark
+    public api.objects.Booking streamingBooking() {
+        return ResponseDecoder.booking(BOOKING_BYTES);
+    }
+
+    @Benchmark
+    public Created gsonParseTyped() {
+        return gson.fromJson(CREATE_RESPONSE, Created.class);
+    }
+
+    @Benchmark
+    public Created jacksonParseTyped() throws JsonProcessingException {
+        return mapper.readValue(CREATE_RESPONSE, Created.class);
+    }
+}
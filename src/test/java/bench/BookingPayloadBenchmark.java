@@ -0,0 +1,54 @@
+package bench;
+
+import api.objects.BookingApi;
+import api.objects.BookingTemplate;
+import com.google.gson.Gson;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Allocation per booking request body – run with {@code -prof gc} and read
+ * {@code gc.alloc.rate.norm} (bytes per operation).
+ *
+ * - gson: {@code sampleBooking()} tree plus toJson and UTF-8 bytes, as
+ *   create/update did before {@link BookingTemplate}.
+ * - encode: template into its reusable buffer – expected 0 B/op.
+ * - toBytes: the exact-size copy handed to {@code RequestOptions.setData}.
+ * - distinct: a new booking per call, names and dates included.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BookingPayloadBenchmark {
+
+    private final Gson gson = new Gson();
+    private final BookingTemplate template = new BookingTemplate();
+    private long seq;
+
+    @Benchmark
+    public byte[] gson() {
+        return gson.toJson(BookingApi.sampleBooking()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public int encode() {
+        template.encode();
+        return template.length();
+    }
+
+    @Benchmark
+    public byte[] toBytes() {
+        return template.toBytes();
+    }
+
+    @Benchmark
+    public int distinct() {
+        template.distinct(seq++).encode();
+        return template.length();
+    }
+}
@@ -0,0 +1,24 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+import utils.TestDataLoader;
+
+import java.util.concurrent.TimeUnit;
+
+/** {@link TestDataLoader#get} – a lookup in the JSON tree loaded once per JVM. */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TestDataLoaderBenchmark {
+
+    @Param({"name", "email", "phone"})
+    public String key;
+
+    @Benchmark
+    public String lookup() {
+        return TestDataLoader.get(key);
+    }
+}
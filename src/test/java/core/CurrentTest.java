@@ -0,0 +1,25 @@
+package core;
+
+/**
+ * Name of the test running on this thread, for tagging timings and flight-recorder
+ * events. Set by the UI base class and the API lane; "-" outside a test.
+ */
+public final class CurrentTest {
+
+    private static final ThreadLocal<String> NAME = new ThreadLocal<>();
+
+    private CurrentTest() {}
+
+    public static void set(String test) {
+        NAME.set(test);
+    }
+
+    public static void clear() {
+        NAME.remove();
+    }
+
+    public static String name() {
+        String test = NAME.get();
+        return test == null ? "-" : test;
+    }
+}
@@ -0,0 +1,41 @@
+package core;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.net.ConnectException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Thin client of {@link TestDaemon}: sends the arguments as one line, prints the
+ * streamed output and exits with the run's status (3 if no daemon is listening).
+ * run-daemon.sh talks to the daemon directly through bash's /dev/tcp instead.
+ */
+public final class DaemonClient {
+
+    private DaemonClient() {}
+
+    public static void main(String[] args) throws IOException {
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), TestDaemon.PORT)) {
+            PrintStream request = new PrintStream(socket.getOutputStream(), true, StandardCharsets.UTF_8);
+            request.println(String.join(" ", args));
+
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            String line;
+            while ((line = in.readLine()) != null) {
+                if (line.startsWith(TestDaemon.EXIT)) {
+                    System.exit(Integer.parseInt(line.substring(TestDaemon.EXIT.length()).trim()));
+                }
+                System.out.println(line);
+            }
+            System.err.println("[daemon] connection closed before the run finished");
+            System.exit(1);
+        } catch (ConnectException e) {
+            System.err.println("[daemon] not running on port " + TestDaemon.PORT + " – start it with run-daemon start");
+            System.exit(3);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package core;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserType;
+import com.microsoft.playwright.Playwright;
+import core.jfr.FlightRecording;
+import ui.core.ContextPool;
+import utils.Config;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Run-scoped Playwright runtime shared by the API and UI lanes.
+ *
+ * - Playwright objects are thread-confined, so there is one runtime per thread:
+ *   the runner thread in a sequential run, one per TestNG worker with
+ *   {@code -Dui.threads=N} (N > 1).
+ * - Each component – driver, Chromium, warm context pool – starts on first use
+ *   and is then reused by every test class that thread executes, so a run
+ *   pays for one driver and one browser instead of one per class.
+ * - Startup cost of every component is recorded ({@link #report()}).
+ * - TestRunner {@link #retain() retains} the runtimes and closes them once with
+ *   {@link #shutdown()}; outside TestRunner they are closed when the suite ends.
+ */
+public final class PlaywrightRuntime {
+
+    private static final ThreadLocal<PlaywrightRuntime> LOCAL = new ThreadLocal<>();
+    private static final Queue<PlaywrightRuntime> ALL = new ConcurrentLinkedQueue<>();
+
+    /* startup cost per component: {count, nanos} */
+    private static final Map<String, LongAdder[]> STARTUP = new ConcurrentHashMap<>();
+    private static final List<String> ORDER = List.of("driver", "browser", "context pool", "api context", "api worker");
+
+    private static volatile boolean retained;
+
+    private final String owner;
+    private volatile boolean closed;
+    private Playwright playwright;
+    private Browser browser;
+    private ContextPool contexts;
+
+    private PlaywrightRuntime(String owner) {
+        this.owner = owner;
+    }
+
+    /** Runtime of the calling thread; nothing is started until a component is asked for. */
+    public static PlaywrightRuntime current() {
+        PlaywrightRuntime rt = LOCAL.get();
+        if (rt == null || rt.closed) {
+            rt = new PlaywrightRuntime(Thread.currentThread().getName());
+            LOCAL.set(rt);
+            ALL.add(rt);
+        }
+        return rt;
+    }
+
+    /** True when the run is configured with more than one UI worker. */
+    public static boolean parallelUi() {
+        return Config.UI_THREADS > 1;
+    }
+
+    public Playwright playwright() {
+        if (playwright == null) playwright = timed("driver", Playwright::create);
+        return playwright;
+    }
+
+    public Browser browser() {
+        if (browser == null) {
+            browser = timed("browser", () -> launch(playwright()));
+            if (parallelUi()) System.out.printf("  [pool] worker %d started on %s%n", browsers(), owner);
+        }
+        return browser;
+    }
+
+    public ContextPool contexts() {
+        if (contexts == null) contexts = timed("context pool", () -> new ContextPool(browser()));
+        return contexts;
+    }
+
+    /** Launches Chromium with the options every UI test uses. */
+    public static Browser launch(Playwright pw) {
+        return pw.chromium().launch(new BrowserType.LaunchOptions()
+                .setHeadless(Config.UI_HEADLESS));
+    }
+
+    /** Starts a component and adds its startup time to the report. */
+    public static <T> T timed(String component, Supplier<T> start) {
+        long t0 = System.nanoTime();
+        T started = FlightRecording.phase(component, start);
+        LongAdder[] s = STARTUP.computeIfAbsent(component, k -> new LongAdder[]{new LongAdder(), new LongAdder()});
+        s[0].increment();
+        s[1].add(System.nanoTime() - t0);
+        return started;
+    }
+
+    /** Number of runtimes that have launched a browser. */
+    public static int browsers() {
+        return (int) ALL.stream().filter(rt -> rt.browser != null).count();
+    }
+
+    /* ───────────────────────── lifecycle ───────────────────────── */
+
+    /** Keeps runtimes open past the end of a suite; the caller must call {@link #shutdown()}. */
+    public static void retain() {
+        retained = true;
+    }
+
+    public static boolean retained() {
+        return retained;
+    }
+
+    /** Closes every runtime: context pool, then browser, then driver. */
+    public static void shutdown() {
+        PlaywrightRuntime rt;
+        while ((rt = ALL.poll()) != null) rt.close();
+    }
+
+    /** Closes the runtimes of other threads (e.g. finished TestNG workers), keeping the caller's warm. */
+    public static void shutdownOtherThreads() {
+        PlaywrightRuntime mine = LOCAL.get();
+        for (PlaywrightRuntime rt : ALL) {
+            if (rt != mine && ALL.remove(rt)) rt.close();
+        }
+    }
+
+    private void close() {
+        closed = true;
+        try {
+            if (contexts != null) contexts.close();
+            if (browser != null) browser.close();
+            if (playwright != null) playwright.close();
+        } catch (RuntimeException e) {
+            System.err.printf("  [runtime] failed to close runtime of %s – %s%n", owner, e);
+        }
+    }
+
+    /* ───────────────────────── reporting ───────────────────────── */
+
+    /** Startup cost per component (empty when nothing was started). */
+    public static String report() {
+        if (STARTUP.isEmpty()) return "";
+        return "[RUNTIME] startup – " + STARTUP.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey((a, b) -> Integer.compare(rank(a), rank(b))))
+                .map(e -> String.format("%s: %dx %.0f ms", e.getKey(),
+                        e.getValue()[0].sum(), e.getValue()[1].sum() / 1e6))
+                .collect(Collectors.joining(", "));
+    }
+
+    private static int rank(String component) {
+        int i = ORDER.indexOf(component);
+        return i < 0 ? ORDER.size() : i;
+    }
+}
@@ -0,0 +1,64 @@
+package core;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Child-first loader over the compiled test and main classes, created afresh
+ * for every daemon run so edited classes are picked up without a JVM restart.
+ *
+ * Resident classes (the runtime that owns the warm driver and browser) are
+ * always taken from the parent, so every generation of test classes talks to
+ * the same instances. Libraries are not in the loader's directories and come
+ * from the parent as well.
+ */
+final class ReloadingClassLoader extends URLClassLoader {
+
+    private final List<String> resident;
+
+    /**
+     * @param dirs     class directories to load child-first
+     * @param resident package prefixes ending in '.' or class names that stay parent-loaded
+     */
+    ReloadingClassLoader(List<Path> dirs, List<String> resident, ClassLoader parent) {
+        super(urls(dirs), parent);
+        this.resident = resident;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> c = findLoadedClass(name);
+            if (c == null && !resident(name)) {
+                try {
+                    c = findClass(name);
+                } catch (ClassNotFoundException notOurs) {
+                    // library or JDK class – delegate below
+                }
+            }
+            if (c == null) return super.loadClass(name, resolve);
+            if (resolve) resolveClass(c);
+            return c;
+        }
+    }
+
+    private boolean resident(String name) {
+        for (String r : resident) {
+            if (r.endsWith(".") ? name.startsWith(r) : name.equals(r) || name.startsWith(r + "$")) return true;
+        }
+        return false;
+    }
+
+    private static URL[] urls(List<Path> dirs) {
+        try {
+            URL[] urls = new URL[dirs.size()];
+            for (int i = 0; i < urls.length; i++) urls[i] = dirs.get(i).toUri().toURL();
+            return urls;
+        } catch (MalformedURLException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package core;
+
+import utils.Config;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.reflect.InvocationTargetException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Resident test runner for local edit-run loops.
+ *
+ * - Keeps one JVM, Playwright driver and Chromium alive ({@link PlaywrightRuntime},
+ *   warmed at start) and listens on 127.0.0.1:{@code daemon.port} (default 7171).
+ * - A client sends one line: the TestRunner arguments, e.g. {@code ui --class BookingFlowTest},
+ *   {@code api --method run}, {@code validation}; {@code -Dkey=value} words set system
+ *   properties for that run only. {@code stop} shuts the daemon down.
+ * - Before each run, sources changed since the last build are compiled in-process
+ *   and the classes are loaded by a fresh {@link ReloadingClassLoader}.
+ * - Console output of the run is streamed back line by line; the last line is
+ *   {@code @@exit <status>}.
+ *
+ * Runs are executed one at a time on a single runner thread, which owns the warm
+ * runtime (Playwright objects are thread-confined). Settings read by the resident
+ * classes ({@code core.*}, {@code ContextPool}) are fixed at daemon start.
+ */
+public final class TestDaemon {
+
+    public static final int PORT = Config.intSetting("daemon.port", 7171);
+    public static final String EXIT = "@@exit ";
+
+    private static final List<String> RESIDENT = List.of("core.", "ui.core.ContextPool");
+    private static final List<Path> SOURCES = List.of(Path.of("src/main/java"), Path.of("src/test/java"));
+    private static final List<Path> OUTPUTS = List.of(Path.of("target/classes"), Path.of("target/test-classes"));
+
+    /* newest build time per output directory */
+    private static final Map<Path, Long> BUILT = new HashMap<>();
+
+    private TestDaemon() {}
+
+    public static void main(String[] args) throws Exception {
+        PlaywrightRuntime.retain();
+        OUTPUTS.forEach(out -> BUILT.put(out, newest(out, ".class")));
+        ExecutorService runner = Executors.newSingleThreadExecutor(r -> new Thread(r, "daemon-runner"));
+        runner.submit(TestDaemon::warmUp).get();
+
+        try (ServerSocket server = new ServerSocket(PORT, 0, InetAddress.getLoopbackAddress())) {
+            System.out.println("[daemon] listening on 127.0.0.1:" + PORT);
+            while (true) {
+                try (Socket client = server.accept()) {
+                    String line = new BufferedReader(new InputStreamReader(
+                            client.getInputStream(), StandardCharsets.UTF_8)).readLine();
+                    PrintStream reply = new PrintStream(client.getOutputStream(), true, StandardCharsets.UTF_8);
+                    if (line == null) continue;
+                    if ("stop".equals(line.trim())) {
+                        reply.println("[daemon] stopping");
+                        reply.println(EXIT + 0);
+                        break;
+                    }
+                    runner.submit(() -> serve(line.trim(), reply)).get();
+                } catch (IOException | ExecutionException e) {
+                    System.err.println("[daemon] request failed – " + e);
+                }
+            }
+        } finally {
+            runner.submit(PlaywrightRuntime::shutdown).get();
+            runner.shutdown();
+        }
+    }
+
+    /** Starts driver and browser on the runner thread so the first run finds them warm. */
+    private static void warmUp() {
+        try {
+            PlaywrightRuntime.current().playwright();
+            if (Config.flag("daemon.warmBrowser", true)) PlaywrightRuntime.current().browser();
+            System.out.println(PlaywrightRuntime.report());
+        } catch (RuntimeException e) {
+            System.err.println("[daemon] warm-up failed, components start on first use – " + e.getMessage());
+        }
+    }
+
+    /* ───────────────────────── one run ───────────────────────── */
+
+    private static void serve(String request, PrintStream reply) {
+        long t0 = System.nanoTime();
+        PrintStream out = System.out;
+        PrintStream err = System.err;
+        System.setOut(new PrintStream(new Tee(out, reply), true, StandardCharsets.UTF_8));
+        System.setErr(new PrintStream(new Tee(err, reply), true, StandardCharsets.UTF_8));
+
+        List<String> runArgs = new ArrayList<>();
+        Map<String, String> saved = new HashMap<>();
+        for (String word : request.split("\\s+")) {
+            if (word.isEmpty()) continue;
+            int eq = word.indexOf('=');
+            if (word.startsWith("-D") && eq > 2) {
+                String key = word.substring(2, eq);
+                saved.putIfAbsent(key, System.getProperty(key));
+                System.setProperty(key, word.substring(eq + 1));
+            } else {
+                runArgs.add(word);
+            }
+        }
+
+        int status;
+        ClassLoader previous = Thread.currentThread().getContextClassLoader();
+        try {
+            System.out.println("[daemon] run " + runArgs);
+            if (!compileChanged()) {
+                status = 2;
+            } else {
+                try (ReloadingClassLoader loader = new ReloadingClassLoader(OUTPUTS, RESIDENT,
+                        TestDaemon.class.getClassLoader())) {
+                    Thread.currentThread().setContextClassLoader(loader);
+                    status = (int) loader.loadClass("api.tests.TestRunner")
+                            .getMethod("run", String[].class)
+                            .invoke(null, (Object) runArgs.toArray(String[]::new));
+                }
+            }
+        } catch (InvocationTargetException e) {
+            e.getCause().printStackTrace();
+            status = 1;
+        } catch (Exception | LinkageError e) {
+            e.printStackTrace();
+            status = 1;
+        } finally {
+            Thread.currentThread().setContextClassLoader(previous);
+            saved.forEach((k, v) -> {
+                if (v == null) System.clearProperty(k);
+                else System.setProperty(k, v);
+            });
+        }
+
+        System.out.printf("[daemon] finished in %.1f s%n", (System.nanoTime() - t0) / 1e9);
+        System.setOut(out);
+        System.setErr(err);
+        reply.println(EXIT + status);
+    }
+
+    /* ───────────────────────── in-process compile ───────────────────────── */
+
+    /** Compiles sources newer than their output directory's last build; false on compile errors. */
+    private static boolean compileChanged() throws IOException {
+        for (int i = 0; i < SOURCES.size(); i++) {
+            Path out = OUTPUTS.get(i);
+            long since = BUILT.get(out);
+            List<Path> changed;
+            try (Stream<Path> files = Files.walk(SOURCES.get(i))) {
+                changed = files.filter(f -> f.toString().endsWith(".java"))
+                        .filter(f -> f.toFile().lastModified() > since)
+                        .toList();
+            }
+            if (changed.isEmpty()) continue;
+
+            JavaCompiler javac = ToolProvider.getSystemJavaCompiler();
+            if (javac == null) {
+                System.err.println("[daemon] no Java compiler in this runtime – run 'mvn test-compile' yourself");
+                return true;
+            }
+            long started = System.currentTimeMillis();
+            DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+            try (StandardJavaFileManager files = javac.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+                List<String> options = Arrays.asList("-d", out.toString(), "-encoding", "UTF-8",
+                        "-cp", System.getProperty("java.class.path"), "-implicit:none");
+                boolean ok = javac.getTask(null, files, diagnostics, options, null,
+                        files.getJavaFileObjectsFromPaths(changed)).call();
+                for (Diagnostic<? extends JavaFileObject> d : diagnostics.getDiagnostics()) {
+                    if (d.getKind() == Diagnostic.Kind.ERROR) System.err.println("[daemon] " + d);
+                }
+                if (!ok) return false;
+            }
+            BUILT.put(out, started);
+            System.out.printf("[daemon] recompiled %d changed file(s) into %s%n", changed.size(), out);
+        }
+        return true;
+    }
+
+    private static long newest(Path dir, String suffix) {
+        if (!Files.isDirectory(dir)) return 0;
+        try (Stream<Path> files = Files.walk(dir)) {
+            return files.filter(f -> f.toString().endsWith(suffix))
+                    .mapToLong(f -> f.toFile().lastModified())
+                    .max().orElse(0);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    /** Copies run output to the daemon console and the client; a vanished client only loses its copy. */
+    private static final class Tee extends OutputStream {
+        private final OutputStream console;
+        private final OutputStream client;
+        private boolean clientGone;
+
+        Tee(OutputStream console, OutputStream client) {
+            this.console = console;
+            this.client = client;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            console.write(b, off, len);
+            if (clientGone) return;
+            try {
+                client.write(b, off, len);
+            } catch (IOException e) {
+                clientGone = true;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            console.flush();
+            if (!clientGone) {
+                try {
+                    client.flush();
+                } catch (IOException e) {
+                    clientGone = true;
+                }
+            }
+        }
+    }
+}
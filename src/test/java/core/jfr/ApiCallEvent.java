@@ -0,0 +1,21 @@
+package core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** One HTTP request of the API objects (emitted by {@code api.core.ApiCalls}). */
+@Name("automation.ApiCall")
+@Label("API Call")
+@Category({"Test Automation", "API"})
+@Description("Request sent through an instrumented APIRequestContext")
+@StackTrace(false)
+public class ApiCallEvent extends Event {
+    @Label("Test") public String test;
+    @Label("Method") public String method;
+    @Label("Endpoint") @Description("Path with numeric ids replaced by {id}") public String endpoint;
+    @Label("Status") @Description("HTTP status, -1 if no response") public int status;
+}
@@ -0,0 +1,23 @@
+package core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** One browser call made by a page object or test (emitted by {@code pages.ActionTimings}). */
+@Name("automation.BrowserAction")
+@Label("Browser Action")
+@Category({"Test Automation", "UI"})
+@Description("Playwright call issued from a page-object action")
+@StackTrace(false)
+public class BrowserActionEvent extends Event {
+    @Label("Test") public String test;
+    @Label("Page") public String page;
+    @Label("Method") @Description("Business method of the page object") public String method;
+    @Label("Action") public String action;
+    @Label("Selector") public String selector;
+    @Label("Status") @Description("ok, or the exception's class name") public String status;
+}
@@ -0,0 +1,86 @@
+package core.jfr;
+
+import core.CurrentTest;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import utils.Config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.util.function.Supplier;
+
+/**
+ * Flight recording of one TestRunner run, with {@code -Djfr=true}.
+ *
+ * - Uses the JDK's {@code jfr.settings} profile (default "default", the
+ *   low-overhead continuous one) plus the automation events of this package.
+ * - Written to {@code jfr.file} (default target/test-run.jfr) when the run ends;
+ *   open it in JDK Mission Control next to GC, thread and I/O activity.
+ *
+ * A JVM started with {@code -XX:StartFlightRecording} records the events as well.
+ */
+public final class FlightRecording {
+
+    private static Recording recording;                 // guarded by FlightRecording.class
+
+    private FlightRecording() {}
+
+    /** Starts the run's recording if {@code jfr=true}; no-op otherwise or if one is running. */
+    public static synchronized void start() {
+        if (!Config.flag("jfr", false) || recording != null) return;
+        String settings = Config.setting("jfr.settings", "default");
+        try {
+            Recording r = new Recording(Configuration.getConfiguration(settings));
+            r.setName("test-run");
+            r.enable(BrowserActionEvent.class);
+            r.enable(LifecycleEvent.class);
+            r.enable(ApiCallEvent.class);
+            r.setToDisk(true);
+            r.setDestination(Path.of(Config.setting("jfr.file", "target/test-run.jfr")));
+            r.start();
+            recording = r;
+            System.out.println("[JFR] recording with '" + settings + "' settings");
+        } catch (IOException | ParseException e) {
+            System.err.println("[JFR] cannot start recording – " + e);
+        }
+    }
+
+    /** Stops the recording and writes it out. */
+    public static synchronized void stop() {
+        if (recording == null) return;
+        Path file = recording.getDestination();
+        recording.stop();                               // dumps to the destination
+        recording.close();
+        recording = null;
+        System.out.println("[JFR] recording: " + file);
+    }
+
+    /** Runs {@code phase} inside a {@link LifecycleEvent}. */
+    public static <T> T phase(String phase, Supplier<T> body) {
+        LifecycleEvent event = new LifecycleEvent();
+        event.begin();
+        String status = "ok";
+        try {
+            return body.get();
+        } catch (RuntimeException | Error e) {
+            status = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.phase = phase;
+                event.test = CurrentTest.name();
+                event.status = status;
+                event.commit();
+            }
+        }
+    }
+
+    public static void phase(String phase, Runnable body) {
+        phase(phase, () -> {
+            body.run();
+            return null;
+        });
+    }
+}
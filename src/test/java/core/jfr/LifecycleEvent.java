@@ -0,0 +1,20 @@
+package core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/** Start-up and per-test setup phases: driver and browser launch, context create / reset / close. */
+@Name("automation.Lifecycle")
+@Label("Test Lifecycle")
+@Category({"Test Automation", "Lifecycle"})
+@Description("Framework phase outside the test body")
+@StackTrace(false)
+public class LifecycleEvent extends Event {
+    @Label("Phase") public String phase;
+    @Label("Test") public String test;
+    @Label("Status") @Description("ok, or the exception's class name") public String status;
+}
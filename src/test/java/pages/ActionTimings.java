@@ -0,0 +1,369 @@
+package pages;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.microsoft.playwright.FrameLocator;
+import com.microsoft.playwright.Keyboard;
+import com.microsoft.playwright.Locator;
+import com.microsoft.playwright.Mouse;
+import com.microsoft.playwright.Page;
+import core.CurrentTest;
+import core.jfr.BrowserActionEvent;
+import utils.Config;
+import utils.LatencyHistogram;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Times every browser call made by page objects and tests, with no code in the page classes.
+ *
+ * - {@link #instrument} wraps a {@link Page} in a proxy; the {@link Locator},
+ *   {@link FrameLocator}, {@link Keyboard} and {@link Mouse} it hands out are
+ *   wrapped too and remember the selector they were built from.
+ * - Each call is tagged from the call stack: the page class and business method
+ *   (outermost page-object frame, e.g. BookingPage.completeBooking), the action
+ *   (innermost one, e.g. waitVisible or type) and the selector, plus the
+ *   {@link CurrentTest}. Calls made straight from a test are tagged with
+ *   the test class and method, the action being the Playwright method.
+ * - Each timed call is also a {@link BrowserActionEvent} for flight recordings.
+ * - Only the outermost call is timed when calls nest (page code running inside
+ *   {@code waitForResponse}); building locators is not a browser call and is not timed.
+ * - {@link #export} writes the histograms to {@code ui.timings.dir} (default
+ *   test-output) as action-timings.json and action-timings.prom (Prometheus text).
+ *
+ * Off with {@code -Dui.timings=false}.
+ */
+public final class ActionTimings {
+
+    private static final boolean ENABLED = Config.flag("ui.timings", true);
+    private static final Path DIR = Path.of(Config.setting("ui.timings.dir", "test-output"));
+
+    /** Prometheus bucket bounds, seconds. */
+    private static final double[] LE = {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30};
+
+    /** Accessors answered from client-side state, not worth a sample. */
+    private static final Set<String> LOCAL = Set.of("url", "context", "isClosed", "mainFrame", "viewportSize",
+            "page", "frames", "video", "toString", "hashCode", "equals");
+
+    /** Page methods whose first argument is a script or markup rather than a selector. */
+    private static final Set<String> SCRIPTED = Set.of("evaluate", "evaluateHandle", "waitForFunction",
+            "setContent", "addInitScript", "addScriptTag", "addStyleTag", "exposeFunction", "exposeBinding");
+
+    private static final StackWalker WALKER = StackWalker.getInstance();
+
+    /** One series: where the time went. */
+    private record Key(String test, String page, String method, String action, String selector) {}
+
+    private static final Map<Key, LatencyHistogram> SERIES = new ConcurrentHashMap<>();
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private ActionTimings() {}
+
+    /** Timed view of {@code page} (the page itself when already wrapped or timings are off). */
+    public static Page instrument(Page page) {
+        if (!ENABLED || page == null || isWrapped(page)) return page;
+        return wrap(Page.class, page, null);
+    }
+
+    /* ───────────────────────── proxies ───────────────────────── */
+
+    private static <T> T wrap(Class<T> type, Object target, String selector) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                new Handler(target, selector)));
+    }
+
+    private static boolean isWrapped(Object o) {
+        return Proxy.isProxyClass(o.getClass()) && Proxy.getInvocationHandler(o) instanceof Handler;
+    }
+
+    private static Object unwrap(Object o) {
+        return o != null && isWrapped(o) ? ((Handler) Proxy.getInvocationHandler(o)).target : o;
+    }
+
+    private record Handler(Object target, String selector) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object[] raw = args == null ? null : args.clone();
+            if (raw != null) for (int i = 0; i < raw.length; i++) raw[i] = unwrap(raw[i]);
+
+            String name = method.getName();
+            if (method.getDeclaringClass() == Object.class) {
+                if ("equals".equals(name)) return target.equals(raw[0]);
+                return call(method, raw);
+            }
+            Class<?> returns = method.getReturnType();
+            if (returns == Locator.class || returns == FrameLocator.class) {
+                Object built = call(method, raw);
+                return built == null ? null : wrap(returns, built, child(name, args));
+            }
+            if (returns == Keyboard.class || returns == Mouse.class) {
+                return wrap(returns, call(method, raw), name);
+            }
+            if (returns == Page.class) {
+                Object p = call(method, raw);
+                return p == null ? null : wrap(Page.class, p, null);
+            }
+            if (LOCAL.contains(name) || name.startsWith("on") || name.startsWith("off")) return call(method, raw);
+
+            int[] depth = DEPTH.get();
+            if (depth[0]++ > 0) {
+                try {
+                    return call(method, raw);
+                } finally {
+                    depth[0]--;
+                }
+            }
+            BrowserActionEvent event = new BrowserActionEvent();
+            event.begin();
+            long t0 = System.nanoTime();
+            String status = "ok";
+            try {
+                return call(method, raw);
+            } catch (Throwable t) {
+                status = t.getClass().getSimpleName();
+                throw t;
+            } finally {
+                long nanos = System.nanoTime() - t0;
+                event.end();
+                depth[0]--;
+                Key key = record(name, target(name, args), nanos);
+                if (event.shouldCommit()) {
+                    event.test = key.test();
+                    event.page = key.page();
+                    event.method = key.method();
+                    event.action = key.action();
+                    event.selector = key.selector();
+                    event.status = status;
+                    event.commit();
+                }
+            }
+        }
+
+        private Object call(Method method, Object[] raw) throws Throwable {
+            try {
+                return method.invoke(target, raw);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+
+        /**
+         * Selector of a call: this object's own, the selector or URL path passed to a
+         * Page method, or else the method name (never a script body).
+         */
+        private String target(String name, Object[] args) {
+            if (selector != null) return selector;
+            if (args == null || args.length == 0 || !(args[0] instanceof String s)
+                    || SCRIPTED.contains(name) || s.length() > 200) return name + "()";
+            if ("navigate".equals(name) || "waitForURL".equals(name)) {
+                try {
+                    String path = URI.create(s).getPath();
+                    return path == null || path.isEmpty() ? "/" : path;
+                } catch (IllegalArgumentException e) {
+                    return s;
+                }
+            }
+            return s;
+        }
+
+        /** Selector of a locator built from this one, in Playwright's {@code >>} notation. */
+        private String child(String name, Object[] args) {
+            String step = switch (name) {
+                case "first" -> "nth=0";
+                case "last"  -> "nth=-1";
+                case "nth"   -> "nth=" + args[0];
+                case "locator", "frameLocator" -> args[0] instanceof String s ? s : describe(args[0]);
+                default -> name + "(" + (args == null || args.length == 0 ? "" : describe(args[0])) + ")";
+            };
+            return selector == null ? step : selector + " >> " + step;
+        }
+
+        /**
+         * Label of a locator argument. Only values that read the same in every run
+         * are spelled out; anything else becomes "…", as an identity hash in a
+         * label would open a new series per call.
+         */
+        private static String describe(Object arg) {
+            if (arg == null) return "null";
+            if (isWrapped(arg)) return String.valueOf(((Handler) Proxy.getInvocationHandler(arg)).selector);
+            if (arg instanceof String || arg instanceof Number || arg instanceof Boolean || arg instanceof Enum<?>)
+                return arg.toString();
+            if (arg instanceof Pattern p) return "/" + p.pattern() + "/";
+            if (arg instanceof Locator.FilterOptions f) {
+                StringJoiner out = new StringJoiner(", ");
+                if (f.hasText != null) out.add("hasText=" + quoted(f.hasText));
+                if (f.hasNotText != null) out.add("hasNotText=" + quoted(f.hasNotText));
+                if (f.has != null) out.add("has=" + describe(f.has));
+                if (f.hasNot != null) out.add("hasNot=" + describe(f.hasNot));
+                if (f.visible != null) out.add("visible=" + f.visible);
+                return out.toString();
+            }
+            return "…";
+        }
+
+        private static String quoted(Object text) {
+            return text instanceof String s ? '"' + s + '"' : describe(text);
+        }
+    }
+
+    /* ───────────────────────── tagging ───────────────────────── */
+
+    private static Key record(String call, String selector, long nanos) {
+        Key key = WALKER.walk(frames -> {
+            String outerClass = null, outerMethod = null, innerMethod = null;
+            String callerClass = null, callerMethod = null;
+            for (StackWalker.StackFrame f : (Iterable<StackWalker.StackFrame>) frames::iterator) {
+                String cls = f.getClassName();
+                if (cls.startsWith("java.") || cls.startsWith("jdk.") || cls.startsWith("sun.")
+                        || cls.startsWith(ActionTimings.class.getName())) continue;
+                if (cls.startsWith("pages.") && !cls.startsWith("pages.validation.")) {
+                    if (innerMethod == null) innerMethod = method(f);
+                    outerClass = cls;
+                    outerMethod = method(f);
+                    continue;
+                }
+                if (innerMethod != null) break;             // left the page-object frames
+                callerClass = cls;
+                callerMethod = method(f);
+                break;
+            }
+            String test = CurrentTest.name();
+            if (innerMethod != null) {
+                return new Key(test, simpleName(outerClass), outerMethod, innerMethod, selector);
+            }
+            return new Key(test, callerClass == null ? "-" : simpleName(callerClass),
+                    callerMethod == null ? "-" : callerMethod, call, selector);
+        });
+        SERIES.computeIfAbsent(key, k -> new LatencyHistogram()).recordNanos(nanos);
+        return key;
+    }
+
+    // lambda$completeBooking$0 → completeBooking
+    private static String method(StackWalker.StackFrame f) {
+        String m = f.getMethodName();
+        if (m.startsWith("lambda$")) {
+            int end = m.indexOf('$', 7);
+            return end > 7 ? m.substring(7, end) : m;
+        }
+        return m;
+    }
+
+    private static String simpleName(String className) {
+        String s = className.substring(className.lastIndexOf('.') + 1);
+        int inner = s.indexOf('$');
+        return inner > 0 ? s.substring(0, inner) : s;
+    }
+
+    /* ───────────────────────── reporting ───────────────────────── */
+
+    /** Time per action across the run plus the five most expensive series (empty when nothing ran). */
+    public static String report() {
+        if (SERIES.isEmpty()) return "";
+        Map<String, long[]> byAction = new TreeMap<>();
+        SERIES.forEach((k, h) -> {
+            long[] a = byAction.computeIfAbsent(k.action(), x -> new long[2]);
+            a[0] += h.count();
+            a[1] += h.sumMicros();
+        });
+        String actions = byAction.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, long[]> e) -> e.getValue()[1]).reversed())
+                .limit(8)
+                .map(e -> String.format("%s %dx %,d ms", e.getKey(), e.getValue()[0], e.getValue()[1] / 1000))
+                .collect(Collectors.joining(", "));
+        String top = SERIES.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<Key, LatencyHistogram> e) -> e.getValue().sumMicros()).reversed())
+                .limit(5)
+                .map(e -> {
+                    Key k = e.getKey();
+                    LatencyHistogram h = e.getValue();
+                    return String.format("  [actions] %-40s %s.%s/%s '%s' %dx, p95 %.0f ms, total %,d ms",
+                            k.test(), k.page(), k.method(), k.action(), k.selector(), h.count(),
+                            h.percentileMicros(95) / 1e3, h.sumMicros() / 1000);
+                })
+                .collect(Collectors.joining(System.lineSeparator()));
+        return "[ACTIONS] " + actions + System.lineSeparator() + top;
+    }
+
+    /** Writes action-timings.json and action-timings.prom; no-op when nothing was timed. */
+    public static void export() {
+        if (SERIES.isEmpty()) return;
+        List<Map.Entry<Key, LatencyHistogram>> series = SERIES.entrySet().stream()
+                .sorted(Comparator.comparing((Map.Entry<Key, LatencyHistogram> e) -> e.getKey().toString()))
+                .toList();
+        try {
+            Files.createDirectories(DIR);
+            Files.writeString(DIR.resolve("action-timings.json"), json(series));
+            Files.writeString(DIR.resolve("action-timings.prom"), prometheus(series));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write action timings to " + DIR, e);
+        }
+    }
+
+    private static String json(List<Map.Entry<Key, LatencyHistogram>> series) {
+        JsonArray out = new JsonArray();
+        for (Map.Entry<Key, LatencyHistogram> e : series) {
+            Key k = e.getKey();
+            LatencyHistogram h = e.getValue();
+            JsonObject o = new JsonObject();
+            o.addProperty("test", k.test());
+            o.addProperty("page", k.page());
+            o.addProperty("method", k.method());
+            o.addProperty("action", k.action());
+            o.addProperty("selector", k.selector());
+            o.addProperty("count", h.count());
+            o.addProperty("totalMs", h.sumMicros() / 1e3);
+            o.addProperty("meanMs", h.meanMicros() / 1e3);
+            o.addProperty("p50Ms", h.percentileMicros(50) / 1e3);
+            o.addProperty("p95Ms", h.percentileMicros(95) / 1e3);
+            o.addProperty("p99Ms", h.percentileMicros(99) / 1e3);
+            o.addProperty("maxMs", h.maxMicros() / 1e3);
+            out.add(o);
+        }
+        JsonObject root = new JsonObject();
+        root.add("series", out);
+        return new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create().toJson(root);
+    }
+
+    private static String prometheus(List<Map.Entry<Key, LatencyHistogram>> series) {
+        StringBuilder sb = new StringBuilder()
+                .append("# HELP ui_action_duration_seconds Browser time of page-object actions\n")
+                .append("# TYPE ui_action_duration_seconds histogram\n");
+        for (Map.Entry<Key, LatencyHistogram> e : series) {
+            Key k = e.getKey();
+            LatencyHistogram h = e.getValue();
+            String labels = "test=\"" + label(k.test()) + "\",page=\"" + label(k.page()) + "\",method=\""
+                    + label(k.method()) + "\",action=\"" + label(k.action()) + "\",selector=\"" + label(k.selector()) + "\"";
+            for (double le : LE) {
+                sb.append("ui_action_duration_seconds_bucket{").append(labels).append(",le=\"").append(le).append("\"} ")
+                        .append(h.countAtOrBelow((long) (le * 1e6))).append('\n');
+            }
+            sb.append("ui_action_duration_seconds_bucket{").append(labels).append(",le=\"+Inf\"} ").append(h.count()).append('\n')
+                    .append("ui_action_duration_seconds_sum{").append(labels).append("} ").append(h.sumMicros() / 1e6).append('\n')
+                    .append("ui_action_duration_seconds_count{").append(labels).append("} ").append(h.count()).append('\n');
+        }
+        return sb.toString();
+    }
+
+    private static String label(String v) {
+        return v.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+}
@@ -2,7 +2,16 @@ package pages;
 
 import com.microsoft.playwright.Locator;
 import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Response;
+import com.microsoft.playwright.TimeoutError;
 import com.microsoft.playwright.options.WaitForSelectorState;
+import utils.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Pattern;
 
 /**
  * BasePage – common Playwright helpers that every page object inherits.
@@ -13,12 +22,22 @@ public class BasePage {
 
     protected final Page page;
 
+    /** Browser calls made through {@code page} are timed by {@link ActionTimings}. */
     public BasePage(Page page) {
-        this.page = page;
+        this.page = ActionTimings.instrument(page);
     }
 
     /* ───────────────────────────── Navigation ─────────────────────────── */
 
+    /**
+     * Root URL of the site under test, without trailing slash: {@code ui.baseUrl}.
+     * Read on every call, as a local stand-in started by the test layer
+     * ({@code -Dui.stub=true}) points {@code ui.baseUrl} at itself.
+     */
+    public static String baseUrl() {
+        return Config.setting("ui.baseUrl", Config.UI_BASE_URL).replaceAll("/+$", "");
+    }
+
     /** Navigate to a full URL and wait for the network to be idle. */
     public void navigate(String url) {
         page.navigate(url);
@@ -35,16 +54,26 @@ public class BasePage {
 
     /** Wait until selector is visible (timeout: Playwright default). */
     public void waitVisible(String selector) {
-        page.locator(selector)
-                .waitFor(new Locator.WaitForOptions()
-                        .setState(WaitForSelectorState.VISIBLE));
+        long t0 = System.nanoTime();
+        try {
+            page.locator(selector)
+                    .waitFor(new Locator.WaitForOptions()
+                            .setState(WaitForSelectorState.VISIBLE));
+        } finally {
+            WaitStats.condition(t0);
+        }
     }
 
     /** Wait until selector disappears (hidden or detached). */
     public void waitHidden(String selector) {
-        page.locator(selector)
-                .waitFor(new Locator.WaitForOptions()
-                        .setState(WaitForSelectorState.HIDDEN));
+        long t0 = System.nanoTime();
+        try {
+            page.locator(selector)
+                    .waitFor(new Locator.WaitForOptions()
+                            .setState(WaitForSelectorState.HIDDEN));
+        } finally {
+            WaitStats.condition(t0);
+        }
     }
 
     /* ───────────────────────────── Element actions ────────────────────── */
@@ -55,9 +84,17 @@ public class BasePage {
         page.locator(selector).click();
     }
 
-    /** Clear the input (if any) and type the given text. */
+    /**
+     * Clear the input (if any) and enter the given text – in one call with
+     * {@code ui.input.mode=fast} (default), key by key with {@code type}.
+     * Any Playwright selector works; see {@link #fillFields} for how fast mode treats non-CSS ones.
+     */
     public void type(String selector, String text) {
         waitVisible(selector);
+        if (fastInput()) {
+            fillFields(Map.of(selector, text));
+            return;
+        }
         Locator input = page.locator(selector);
         input.fill("");
         input.type(text);
@@ -85,11 +122,181 @@ public class BasePage {
         return actual != null && actual.contains(expected);
     }
 
+    /* ───────────────────────────── Bulk input ─────────────────────────── */
+
+    /**
+     * Sets every field through the element's native value setter (so framework
+     * value trackers notice) and fires keydown / input / keyup / change, which is
+     * what the site's validators listen to. An {@code iframe} selector targets its
+     * editable body (TinyMCE). Like Playwright's strict mode, a selector must
+     * match exactly one element; the ones that do not are returned untouched.
+     */
+    private static final String FILL_FIELDS = """
+            (fields) => {
+              const missing = [], ambiguous = [];
+              for (const [css, value] of fields) {
+                const all = document.querySelectorAll(css);
+                if (all.length > 1) { ambiguous.push(css); continue; }
+                let el = all[0];
+                if (el && el.tagName === 'IFRAME') el = el.contentDocument && el.contentDocument.body;
+                if (!el) { missing.push(css); continue; }
+                const key = value.length ? value[value.length - 1] : '';
+                el.focus();
+                el.dispatchEvent(new KeyboardEvent('keydown', {key, bubbles: true}));
+                if (el.isContentEditable) {
+                  el.textContent = value;
+                } else {
+                  const setter = Object.getOwnPropertyDescriptor(Object.getPrototypeOf(el), 'value');
+                  if (setter && setter.set) setter.set.call(el, value); else el.value = value;
+                }
+                el.dispatchEvent(new InputEvent('input', {bubbles: true, inputType: 'insertText', data: value}));
+                el.dispatchEvent(new KeyboardEvent('keyup', {key, bubbles: true}));
+                el.dispatchEvent(new Event('change', {bubbles: true}));
+                el.blur();
+              }
+              return {missing, ambiguous};
+            }
+            """;
+
+    /** Playwright-only syntax that document.querySelectorAll would reject or read differently. */
+    private static final Pattern NOT_CSS = Pattern.compile(
+            "^[A-Za-z_-]+=|^\\.{0,2}/|>>|:(has-text|text|text-is|text-matches|visible|nth-match|left-of|right-of|above|below|near)\\b");
+
+    /** True unless {@code -Dui.input.mode=type} asks for real keystrokes. */
+    protected static boolean fastInput() {
+        return !"type".equalsIgnoreCase(Config.UI_INPUT_MODE);
+    }
+
+    /**
+     * Fills several fields in map order. Plain CSS selectors are set together in
+     * one browser round trip; Playwright-only selectors ({@code text=}, XPath,
+     * {@code >>}, {@code :has-text()}…) go through {@link Locator#fill}, which waits for them.
+     * @param values selector → value
+     * @throws IllegalStateException if a CSS selector matches no element or several
+     */
+    public void fillFields(Map<String, String> values) {
+        List<List<String>> css = new ArrayList<>();
+        for (Map.Entry<String, String> e : values.entrySet()) {
+            if (!NOT_CSS.matcher(e.getKey()).find()) {
+                css.add(List.of(e.getKey(), e.getValue()));
+                continue;
+            }
+            setAll(css);                                // keep map order across the two paths
+            css.clear();
+            page.locator(e.getKey()).fill(e.getValue());
+        }
+        setAll(css);
+    }
+
+    private void setAll(List<List<String>> fields) {
+        if (fields.isEmpty()) return;
+        if (page.evaluate(FILL_FIELDS, fields) instanceof Map<?, ?> result) {
+            if (result.get("missing") instanceof List<?> l && !l.isEmpty())
+                throw new IllegalStateException("No element for " + l);
+            if (result.get("ambiguous") instanceof List<?> l && !l.isEmpty())
+                throw new IllegalStateException("Several elements for " + l);
+        }
+    }
+
     /* ───────────────────────────── Generic waits ──────────────────────── */
 
     /** Wait for a selector to reach a given Playwright {@link WaitForSelectorState}. */
     public void waitFor(String selector, WaitForSelectorState state) {
-        page.waitForSelector(selector,
-                new Page.WaitForSelectorOptions().setState(state));
+        long t0 = System.nanoTime();
+        try {
+            page.waitForSelector(selector,
+                    new Page.WaitForSelectorOptions().setState(state));
+        } finally {
+            WaitStats.condition(t0);
+        }
+    }
+
+    /**
+     * Waits, driven by the browser, until {@code locator} reaches {@code state}.
+     * @return true if reached, false on timeout
+     */
+    public boolean waitFor(Locator locator, WaitForSelectorState state, int timeoutMs) {
+        long t0 = System.nanoTime();
+        try {
+            locator.waitFor(new Locator.WaitForOptions().setState(state).setTimeout(timeoutMs));
+            return true;
+        } catch (TimeoutError e) {
+            return false;
+        } finally {
+            WaitStats.condition(t0);
+        }
+    }
+
+    /* ───────────────────────────── Condition waits ────────────────────── */
+
+    // Prefer these to fixed sleeps: they return as soon as the condition holds.
+    // Every wait is added to WaitStats; fixed sleeps are reported separately.
+
+    private static final int FIRST_POLL_MS = 25;
+    private static final int MAX_POLL_MS   = 500;
+
+    /** Resolves once at least {@code min} elements match the CSS selector, re-checked on every DOM mutation. */
+    private static final String DOM_COUNT = """
+            ([css, min, timeout]) => new Promise(resolve => {
+              const ok = () => document.querySelectorAll(css).length >= min;
+              if (ok()) return resolve(true);
+              const done = r => { obs.disconnect(); clearTimeout(timer); resolve(r); };
+              const obs = new MutationObserver(() => { if (ok()) done(true); });
+              obs.observe(document, {subtree: true, childList: true, attributes: true, characterData: true});
+              const timer = setTimeout(() => done(ok()), timeout);
+            })
+            """;
+
+    /**
+     * Polls a Java-side predicate with exponential backoff (25 ms doubling up to 500 ms).
+     * @return true once the condition holds, false if {@code timeoutMs} elapsed first
+     */
+    public boolean waitUntil(BooleanSupplier condition, int timeoutMs) {
+        long t0 = System.nanoTime();
+        long deadline = t0 + timeoutMs * 1_000_000L;
+        int pollMs = FIRST_POLL_MS;
+        try {
+            while (true) {
+                if (condition.getAsBoolean()) return true;
+                long leftMs = (deadline - System.nanoTime()) / 1_000_000;
+                if (leftMs <= 0) return false;
+                page.waitForTimeout(Math.min(pollMs, leftMs));
+                pollMs = Math.min(pollMs * 2, MAX_POLL_MS);
+            }
+        } finally {
+            WaitStats.condition(t0);
+        }
+    }
+
+    /**
+     * Waits in the browser, driven by DOM mutations, until at least {@code min}
+     * elements match the CSS selector.
+     * @return true if reached, false on timeout
+     */
+    public boolean waitForCount(String cssSelector, int min, int timeoutMs) {
+        long t0 = System.nanoTime();
+        try {
+            return Boolean.TRUE.equals(page.evaluate(DOM_COUNT, List.of(cssSelector, min, timeoutMs)));
+        } finally {
+            WaitStats.condition(t0);
+        }
+    }
+
+    /** Runs {@code action} and waits for the first response whose URL contains {@code urlPart}. */
+    public Response waitForResponse(String urlPart, Runnable action, int timeoutMs) {
+        long t0 = System.nanoTime();
+        try {
+            return page.waitForResponse(r -> r.url().contains(urlPart),
+                    new Page.WaitForResponseOptions().setTimeout(timeoutMs), action);
+        } finally {
+            WaitStats.condition(t0);
+        }
+    }
+
+    /** Fixed delay – only for visual pacing; counted as an explicit sleep in {@link WaitStats}. */
+    public void sleep(int ms) {
+        long t0 = System.nanoTime();
+        page.waitForTimeout(ms);
+        WaitStats.sleep(t0);
     }
 }
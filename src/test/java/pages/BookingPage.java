@@ -2,6 +2,10 @@ package pages;
 
 import com.microsoft.playwright.*;
 import com.microsoft.playwright.options.WaitForSelectorState;
+import pages.validation.BookingForm;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Page–object wrapper for the room‑booking flow at
@@ -19,10 +23,15 @@ public class BookingPage extends BasePage {
             "div.d-flex.align-items-baseline.mb-4 >> text=per night");
 
     /* ── form fields ── */
-    private final Locator firstNameInput = page.locator("input.room-firstname");
-    private final Locator lastNameInput  = page.locator("input.room-lastname");
-    private final Locator emailInput     = page.locator("input.room-email");
-    private final Locator phoneInput     = page.locator("input.room-phone");
+    private static final String FIRST_NAME = "input.room-firstname";
+    private static final String LAST_NAME  = "input.room-lastname";
+    private static final String EMAIL      = "input.room-email";
+    private static final String PHONE      = "input.room-phone";
+
+    private final Locator firstNameInput = page.locator(FIRST_NAME);
+    private final Locator lastNameInput  = page.locator(LAST_NAME);
+    private final Locator emailInput     = page.locator(EMAIL);
+    private final Locator phoneInput     = page.locator(PHONE);
 
     /* two blue “Reserve Now” buttons */
     private final Locator reserveNowBtn =
@@ -41,28 +50,9 @@ public class BookingPage extends BasePage {
 
     /* ─────────────────────────── validation ─────────────────────────── */
 
+    /** Rules live in {@link BookingForm} so they can also be checked without a browser. */
     private void validate(String fn, String ln, String email, String phone) {
-        /* blanks */
-        if (fn == null || fn.trim().isEmpty())
-            throw new IllegalArgumentException("Firstname should not be blank");
-        if (ln == null || ln.trim().isEmpty())
-            throw new IllegalArgumentException("Lastname should not be blank");
-        if (email == null || email.trim().isEmpty())
-            throw new IllegalArgumentException("must not be empty");
-        if (phone == null || phone.trim().isEmpty())
-            throw new IllegalArgumentException("must not be empty");
-
-        /* lengths */
-        if (fn.trim().length() < 3 || fn.trim().length() > 30)
-            throw new IllegalArgumentException("size must be between 3 and 30");
-        if (ln.trim().length() < 3 || ln.trim().length() > 18)
-            throw new IllegalArgumentException("size must be between 3 and 18");
-        if (phone.trim().length() < 11 || phone.trim().length() > 21)
-            throw new IllegalArgumentException("size must be between 11 and 21");
-
-        /* e‑mail format */
-        if (!email.trim().matches("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$"))
-            throw new IllegalArgumentException("well-formed email address");
+        BookingForm.check(fn, ln, email, phone);
     }
 
     /* ─────────────────────────── helpers ─────────────────────────── */
@@ -89,17 +79,30 @@ public class BookingPage extends BasePage {
         scrollToBottom();
         reserveNowBtn.first().click(new Locator.ClickOptions().setForce(true));
 
-        /* top – fill three fields */
         scrollToTop();
         firstNameInput.waitFor(new Locator.WaitForOptions()
                 .setState(WaitForSelectorState.VISIBLE));
-        firstNameInput.fill(first);
-        lastNameInput.fill(last);
-        emailInput.fill(email);
 
-        /* bottom – phone + submit */
-        scrollToBottom();
-        phoneInput.fill(phone);
+        if (fastInput()) {
+            /* all four fields in one round trip */
+            Map<String, String> fields = new LinkedHashMap<>();
+            fields.put(FIRST_NAME, first);
+            fields.put(LAST_NAME, last);
+            fields.put(EMAIL, email);
+            fields.put(PHONE, phone);
+            fillFields(fields);
+        } else {
+            /* top – fill three fields */
+            firstNameInput.fill(first);
+            lastNameInput.fill(last);
+            emailInput.fill(email);
+
+            /* bottom – phone */
+            scrollToBottom();
+            phoneInput.fill(phone);
+        }
+
+        /* submit */
         reserveNowBtn.last().scrollIntoViewIfNeeded();
         reserveNowBtn.last().click(new Locator.ClickOptions().setForce(true));
     }
@@ -2,6 +2,10 @@ package pages;
 
 import com.microsoft.playwright.*;
 import com.microsoft.playwright.options.WaitForSelectorState;
+import pages.validation.ContactForm;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Page-object wrapper for the “Contact Us” form at
@@ -13,10 +17,12 @@ import com.microsoft.playwright.options.WaitForSelectorState;
  *     – <textarea id="description">      (plain or hidden in CSS)
  *     – TinyMCE inside <iframe id="description_ifr">.
  * • The backend validator enables the blue “Submit” button
- *   only after key events are fired in every input,
- *   so we must *type* into the textarea, not just call fill().
+ *   only after key events are fired in every input, so the
+ *   message is either typed (ui.input.mode=type) or set with
+ *   synthetic key/input events ({@link #fillFields}, default).
  * • Implements eight client-side validation rules via quick
- *   pre-checks in {@link #validate}.
+ *   pre-checks in {@link #validate} (rules defined in
+ *   {@link ContactForm}).
  */
 public class ContactUsPage extends BasePage {
 
@@ -24,11 +30,16 @@ public class ContactUsPage extends BasePage {
     private static final String MSG_TEXTAREA = "#description";
     private static final String MSG_IFRAME   = "iframe#description_ifr";
 
+    private static final String NAME    = "#name";
+    private static final String EMAIL   = "#email";
+    private static final String PHONE   = "#phone";
+    private static final String SUBJECT = "#subject";
+
     /* Form inputs */
-    private final Locator nameInput    = page.locator("#name");
-    private final Locator emailInput   = page.locator("#email");
-    private final Locator phoneInput   = page.locator("#phone");
-    private final Locator subjectInput = page.locator("#subject");
+    private final Locator nameInput    = page.locator(NAME);
+    private final Locator emailInput   = page.locator(EMAIL);
+    private final Locator phoneInput   = page.locator(PHONE);
+    private final Locator subjectInput = page.locator(SUBJECT);
 
     /* Blue “Submit” button (type="button") */
     private final Locator submitBtn =
@@ -40,28 +51,25 @@ public class ContactUsPage extends BasePage {
     public ContactUsPage(Page page) { super(page); }
 
     /* ───────────────────────── validation ─────────────────────── */
+    /* Rules live in ContactForm so they can also be checked without a browser. */
     private void validate(String n, String e, String p, String s, String m) {
-        if (n == null || n.trim().isEmpty())   throw new IllegalArgumentException("Name may not be blank");
-        if (e == null || e.trim().isEmpty())   throw new IllegalArgumentException("Email may not be blank");
-
-        // Проверка корректности email
-        if (!e.trim().matches("^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$")) {
-            throw new IllegalArgumentException("Email must be a well-formed email address");
-        }
-
-        if (p == null || p.trim().isEmpty())   throw new IllegalArgumentException("Phone may not be blank");
-        if (s == null || s.trim().isEmpty())   throw new IllegalArgumentException("Subject may not be blank");
-        if (m == null || m.trim().isEmpty())   throw new IllegalArgumentException("Message may not be blank");
+        ContactForm.check(n, e, p, s, m);
+    }
 
-        if (s.length() < 5 || s.length() > 100)
-            throw new IllegalArgumentException("Subject must be between 5 and 100 characters");
-        if (p.length() < 11 || p.length() > 21)
-            throw new IllegalArgumentException("Phone must be between 11 and 21 characters");
-        if (m.length() < 20 || m.length() > 2000)
-            throw new IllegalArgumentException("Message must be between 20 and 2000 characters");
+    /** Plain textarea if present, otherwise the TinyMCE iframe once it has loaded. */
+    private String messageSelector() {
+        if (page.locator(MSG_TEXTAREA).count() > 0) return MSG_TEXTAREA;
+        page.waitForSelector(MSG_IFRAME,
+                new Page.WaitForSelectorOptions().setTimeout(10_000));
+        return MSG_IFRAME;
     }
 
     private void fillMessage(String text) {
+        if (fastInput()) {
+            fillFields(Map.of(messageSelector(), text));
+            return;
+        }
+
         Locator msg = page.locator(MSG_TEXTAREA);
         if (msg.count() > 0) {
             msg.fill("");
@@ -90,6 +98,19 @@ public class ContactUsPage extends BasePage {
     public void fillContactForm(String n, String e, String p, String s, String m) {
         validate(n, e, p, s, m);
 
+        if (fastInput()) {
+            /* every field, message included, in one round trip – once React has rendered the form */
+            waitVisible(NAME);
+            Map<String, String> fields = new LinkedHashMap<>();
+            fields.put(NAME, n);
+            fields.put(EMAIL, e);
+            fields.put(PHONE, p);
+            fields.put(SUBJECT, s);
+            fields.put(messageSelector(), m);
+            fillFields(fields);
+            return;
+        }
+
         nameInput.fill(n);
         emailInput.fill(e);
         phoneInput.fill(p);
@@ -99,6 +120,14 @@ public class ContactUsPage extends BasePage {
         fillMessage(m);
     }
 
+    /**
+     * Wait until the site's validator has enabled the Submit button.
+     * @return true if enabled within 5 s
+     */
+    public boolean waitUntilReady() {
+        return waitFor(submitBtn.and(page.locator(":enabled")), WaitForSelectorState.VISIBLE, 5_000);
+    }
+
     /**
      * Click the Submit button and wait for the success banner to appear.
      * This method does not check banner content.
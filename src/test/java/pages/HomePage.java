@@ -7,18 +7,20 @@ import com.microsoft.playwright.Page;
  */
 public class HomePage extends BasePage {
 
-    // URL главной страницы
-    private static final String HOME_URL = "https://automationintesting.online/";
-
     public HomePage(Page page) {
         super(page);
     }
 
+    // URL главной страницы
+    private static String homeUrl() {
+        return baseUrl() + "/";
+    }
+
     /**
      * Opens the home page
      */
     public void open() {
-        page.navigate(HOME_URL);
+        page.navigate(homeUrl());
     }
 
     /**
@@ -43,7 +45,7 @@ public class HomePage extends BasePage {
                 throw new IllegalArgumentException("Invalid room type: " + roomType);
         }
 
-        String url = String.format("https://automationintesting.online/reservation/%s?checkin=%s&checkout=%s", roomId, checkIn, checkOut);
+        String url = String.format("%s/reservation/%s?checkin=%s&checkout=%s", baseUrl(), roomId, checkIn, checkOut);
         page.navigate(url);
     }
 
@@ -51,34 +53,34 @@ public class HomePage extends BasePage {
      * Navigate to admin page directly
      */
     public void clickAdmin() {
-        page.navigate("https://automationintesting.online/admin");
+        page.navigate(baseUrl() + "/admin");
     }
 
     /**
      * Navigate to rooms section (anchor)
      */
     public void goToRooms() {
-        page.navigate(HOME_URL + "#rooms");
+        page.navigate(homeUrl() + "#rooms");
     }
 
     /**
      * Navigate to booking section (anchor)
      */
     public void goToBooking() {
-        page.navigate(HOME_URL + "#booking");
+        page.navigate(homeUrl() + "#booking");
     }
 
     /**
      * Navigate to location section (anchor)
      */
     public void goToLocation() {
-        page.navigate(HOME_URL + "#location");
+        page.navigate(homeUrl() + "#location");
     }
 
     /**
      * Navigate to contact section (anchor)
      */
     public void goToContact() {
-        page.navigate(HOME_URL + "#contact");
+        page.navigate(homeUrl() + "#contact");
     }
 }
@@ -0,0 +1,35 @@
+package pages;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Run-wide totals of time spent waiting in page objects:
+ * fixed sleeps ({@link BasePage#sleep}) versus condition waits
+ * (selector states, DOM mutations, network responses, predicates).
+ */
+public final class WaitStats {
+
+    private static final LongAdder SLEEPS          = new LongAdder();
+    private static final LongAdder SLEEP_NANOS     = new LongAdder();
+    private static final LongAdder CONDITIONS      = new LongAdder();
+    private static final LongAdder CONDITION_NANOS = new LongAdder();
+
+    private WaitStats() {}
+
+    static void sleep(long startNanos) {
+        SLEEPS.increment();
+        SLEEP_NANOS.add(System.nanoTime() - startNanos);
+    }
+
+    static void condition(long startNanos) {
+        CONDITIONS.increment();
+        CONDITION_NANOS.add(System.nanoTime() - startNanos);
+    }
+
+    /** One-line summary for the end of the run. */
+    public static String report() {
+        return String.format("[WAITS] explicit sleeps: %d (%d ms), condition waits: %d (%d ms)",
+                SLEEPS.sum(), SLEEP_NANOS.sum() / 1_000_000,
+                CONDITIONS.sum(), CONDITION_NANOS.sum() / 1_000_000);
+    }
+}
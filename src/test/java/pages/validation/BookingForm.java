@@ -0,0 +1,30 @@
+package pages.validation;
+
+import static pages.validation.FormRules.blank;
+import static pages.validation.FormRules.outside;
+
+/**
+ * Guest details of the room-booking form, with the rules the site enforces.
+ * Messages mirror the server's banner wording.
+ */
+public record BookingForm(String firstname, String lastname, String email, String phone) {
+
+    public static final FormRules<BookingForm> RULES = FormRules.<BookingForm>builder()
+            /* blanks */
+            .rule(f -> blank(f.firstname()), "Firstname should not be blank")
+            .rule(f -> blank(f.lastname()),  "Lastname should not be blank")
+            .rule(f -> blank(f.email()),     "must not be empty")
+            .rule(f -> blank(f.phone()),     "must not be empty")
+            /* lengths */
+            .rule(f -> outside(f.firstname().trim().length(), 3, 30), "size must be between 3 and 30")
+            .rule(f -> outside(f.lastname().trim().length(), 3, 18),  "size must be between 3 and 18")
+            .rule(f -> outside(f.phone().trim().length(), 11, 21),    "size must be between 11 and 21")
+            /* e‑mail format */
+            .rule(f -> !f.email().trim().matches(FormRules.EMAIL_REGEX), "well-formed email address")
+            .build();
+
+    /** Throws {@link IllegalArgumentException} for the first rule the values break. */
+    public static void check(String firstname, String lastname, String email, String phone) {
+        RULES.validate(new BookingForm(firstname, lastname, email, phone));
+    }
+}
@@ -0,0 +1,28 @@
+package pages.validation;
+
+import static pages.validation.FormRules.blank;
+import static pages.validation.FormRules.outside;
+
+/**
+ * Fields of the "Contact Us" form, with the rules the site enforces.
+ * Messages mirror the server's banner wording.
+ */
+public record ContactForm(String name, String email, String phone, String subject, String message) {
+
+    public static final FormRules<ContactForm> RULES = FormRules.<ContactForm>builder()
+            .rule(f -> blank(f.name()),  "Name may not be blank")
+            .rule(f -> blank(f.email()), "Email may not be blank")
+            .rule(f -> !f.email().trim().matches(FormRules.EMAIL_REGEX), "Email must be a well-formed email address")
+            .rule(f -> blank(f.phone()),   "Phone may not be blank")
+            .rule(f -> blank(f.subject()), "Subject may not be blank")
+            .rule(f -> blank(f.message()), "Message may not be blank")
+            .rule(f -> outside(f.subject().length(), 5, 100),  "Subject must be between 5 and 100 characters")
+            .rule(f -> outside(f.phone().length(), 11, 21),    "Phone must be between 11 and 21 characters")
+            .rule(f -> outside(f.message().length(), 20, 2000), "Message must be between 20 and 2000 characters")
+            .build();
+
+    /** Throws {@link IllegalArgumentException} for the first rule the values break. */
+    public static void check(String name, String email, String phone, String subject, String message) {
+        RULES.validate(new ContactForm(name, email, phone, subject, message));
+    }
+}
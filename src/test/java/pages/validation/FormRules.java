@@ -0,0 +1,62 @@
+package pages.validation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Browser-independent validation engine shared by page objects and the
+ * browser-free test lane.
+ *
+ * Rules are checked in declaration order; the first violated rule wins, so a
+ * form reports exactly the message the site's banner would show first.
+ *
+ * @param <F> form type the rules apply to
+ */
+public final class FormRules<F> {
+
+    private record Rule<F>(Predicate<F> violated, String message) {}
+
+    private final List<Rule<F>> rules;
+
+    private FormRules(List<Rule<F>> rules) {
+        this.rules = List.copyOf(rules);
+    }
+
+    public static <F> Builder<F> builder() {
+        return new Builder<>();
+    }
+
+    /** Throws {@link IllegalArgumentException} with the message of the first violated rule. */
+    public void validate(F form) {
+        for (Rule<F> r : rules) {
+            if (r.violated().test(form)) throw new IllegalArgumentException(r.message());
+        }
+    }
+
+    /* ───────────────────────── common predicates ───────────────────────── */
+
+    static final String EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$";
+
+    static boolean blank(String s) {
+        return s == null || s.trim().isEmpty();
+    }
+
+    static boolean outside(int length, int min, int max) {
+        return length < min || length > max;
+    }
+
+    public static final class Builder<F> {
+        private final List<Rule<F>> rules = new ArrayList<>();
+
+        /** Adds a rule: when {@code violated} holds, validation fails with {@code message}. */
+        public Builder<F> rule(Predicate<F> violated, String message) {
+            rules.add(new Rule<>(violated, message));
+            return this;
+        }
+
+        public FormRules<F> build() {
+            return new FormRules<>(rules);
+        }
+    }
+}
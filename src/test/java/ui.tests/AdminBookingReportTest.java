@@ -2,10 +2,14 @@ package ui.tests;
 
 import com.microsoft.playwright.*;
 import com.microsoft.playwright.options.LoadState;
+import com.microsoft.playwright.options.WaitForSelectorState;
 import org.testng.Assert;
+import org.testng.SkipException;
 import org.testng.annotations.*;
 import pages.*;
+import ui.core.AdminSession;
 import ui.core.BasePlaywrightTest;
+import utils.Config;
 import utils.TestDataLoader;
 
 import java.time.LocalDate;
@@ -13,16 +17,18 @@ import java.time.format.DateTimeFormatter;
 
 /**
  * Verifies that fresh bookings for the Single, Double and Suite rooms appear (or not) on **Admin → Report**.
- * Includes a dedicated test that just books the Suite (id = 3) without
- * checking the report – this exposes the current code‑mismatch bug
- * between the Suite’s room‑code in the booking flow (“104”) and the
- * code shown in the report (“103” – see linked issue).
+ * The Single and Double checks seed their booking over HTTP ({@link ui.core.BookingFixtures}).
+ * The Suite (id = 3) is booked through the UI: the booking flow is what
+ * exposes the current code‑mismatch bug between the Suite’s room‑code in the
+ * booking flow (“104”) and the code shown in the report (“103” – see linked issue).
+ * A dedicated test books the Suite without checking the report. The
+ * stand-in ({@code -Dui.stub=true}) has no such mismatch, so the bug check is
+ * skipped there rather than reported as passing.
  */
 public class AdminBookingReportTest extends BasePlaywrightTest {
 
-    private HomePage home;
-    private AdminLoginPage adminLogin;
     private BookingPage booking;
+    private BasePage base;
 
     private static final String G_NAME = TestDataLoader.get("name");
     private static final String G_MAIL = TestDataLoader.get("email");
@@ -33,17 +39,24 @@ public class AdminBookingReportTest extends BasePlaywrightTest {
 
     @BeforeMethod
     public void setUp() {
-        home = new HomePage(page);
-        adminLogin = new AdminLoginPage(page);
         booking = new BookingPage(page);
+        base = new BasePage(page);
     }
 
-    private void createBooking(String roomId) {
+    /** Precondition for the report checks: booked over HTTP, removed after the test. */
+    private void seedBooking(int roomId) {
+        LocalDate checkIn = LocalDate.now().plusDays(random.nextInt(15));
+        String[] name = G_NAME.split(" ");
+        fixtures().book(roomId, name[0], name[1], G_MAIL, G_PHONE, checkIn, checkIn.plusDays(1));
+    }
+
+    /** The booking flow itself, through the reservation page. */
+    private void bookThroughUi(String roomId) {
         int offset = random.nextInt(15);
         LocalDate checkIn = LocalDate.now().plusDays(offset);
         LocalDate checkOut = checkIn.plusDays(1);
 
-        page.navigate("https://automationintesting.online/reservation/" + roomId +
+        page.navigate(url("/reservation/") + roomId +
                 "?checkin=" + checkIn.format(URL_FMT) +
                 "&checkout=" + checkOut.format(URL_FMT));
 
@@ -60,10 +73,8 @@ public class AdminBookingReportTest extends BasePlaywrightTest {
     }
 
     private void verifyReportRowAndMessage(String expectedReportRow) {
-        // Step 1 — Login and go to Admin → Report
-        home.clickAdmin();
-        adminLogin.login("admin", "password");
-        page.waitForURL("**/admin/rooms");
+        // Step 1 — Start on Admin → Rooms with the cached admin session
+        AdminSession.open(page);
 
         // Step 2 — Open Report page and check expected row
         page.locator("a[href='/admin/report']").click();
@@ -79,7 +90,7 @@ public class AdminBookingReportTest extends BasePlaywrightTest {
         page.waitForURL("**/admin/message");
 
         // Step 4 — Wait for message list to render
-        page.waitForTimeout(2000);
+        base.waitForCount("div[id^='message']", 1, 10_000);
 
         // Step 5 — Find latest message from the guest
         Locator messages = page.locator("div[id^='message']");
@@ -116,14 +127,7 @@ public class AdminBookingReportTest extends BasePlaywrightTest {
         closeBtn.click();
 
         // Step 9 — Wait for modal to disappear
-        boolean isModalGone = false;
-        for (int i = 0; i < 20; i++) {
-            if (modal.isHidden()) {
-                isModalGone = true;
-                break;
-            }
-            page.waitForTimeout(250);
-        }
+        boolean isModalGone = base.waitFor(modal, WaitForSelectorState.HIDDEN, 5_000);
 
         Assert.assertTrue(isModalGone, "Modal did not close within expected time");
     }
@@ -131,25 +135,27 @@ public class AdminBookingReportTest extends BasePlaywrightTest {
     /* tests */
     @Test(description = "Verifies double room (id 2) is in report and message")
     public void doubleRoomBookingAppears() {
-        createBooking("2");
+        seedBooking(2);
         verifyReportRowAndMessage(G_NAME + " - Room: 102");
     }
 
     @Test(description = "Verifies single room (id 1) is in report and message")
     public void singleRoomBookingAppears() {
-        createBooking("1");
+        seedBooking(1);
         verifyReportRowAndMessage(G_NAME + " - Room: 101");
     }
 
     @Test(description = "Verifies suite room (id 3) appears despite room code mismatch")
     public void suiteRoomBookingAppears_Bug() {
-        createBooking("3");
+        if (Config.UI_STUB)
+            throw new SkipException("Known live-site bug (Suite booked as 104, reported as 103) – not reproduced by the site stand-in");
+        bookThroughUi("3");
         verifyReportRowAndMessage(G_NAME + " - Room: 103"); // Known mismatch: booked as 104, will fail due to bug
     }
 
     @Test(description = "Creates suite room booking without verifying admin")
     public void suiteRoomBookingOnlyCreate() {
-        createBooking("3");
+        bookThroughUi("3");
         // No further assertions – the booking is created successfully,
         // the mismatch is documented in the accompanying HTML issue.
     }
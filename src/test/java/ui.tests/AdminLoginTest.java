@@ -22,7 +22,7 @@ public class AdminLoginTest extends BasePlaywrightTest {
     @BeforeMethod(alwaysRun = true)
     public void initPageObjects() {
         // BasePlaywrightTest already navigates nowhere – we do it here
-        page.navigate("https://automationintesting.online/");
+        page.navigate(url("/"));
         page.waitForLoadState(LoadState.NETWORKIDLE);
 
         home       = new HomePage(page);
@@ -55,9 +55,9 @@ public class AdminLoginTest extends BasePlaywrightTest {
 
         /* 3. Switch to the public site */
         page.locator("#frontPageLink").click();
-        page.waitForURL("https://automationintesting.online/");
+        page.waitForURL(url("/"));
         Assert.assertEquals(page.url(),
-                "https://automationintesting.online/",
+                url("/"),
                 "Should be on the public front page");
 
         /* 4. Re‑enter admin via header link */
@@ -74,9 +74,9 @@ public class AdminLoginTest extends BasePlaywrightTest {
 
         /* 5. Logout – verify redirect to home */
         page.locator("button:has-text('Logout')").click();
-        page.waitForURL("https://automationintesting.online/");
+        page.waitForURL(url("/"));
         Assert.assertEquals(page.url(),
-                "https://automationintesting.online/",
+                url("/"),
                 "After logout the user should be back on the home page");
 
         /* 6. Extra check – /admin should now show the login form */
@@ -34,7 +34,7 @@ public class BookingFlowTest extends BasePlaywrightTest {
     }
 
     private void createBooking(String roomId, LocalDate checkIn, LocalDate checkOut) {
-        page.navigate("https://automationintesting.online/reservation/" + roomId +
+        page.navigate(url("/reservation/") + roomId +
                 "?checkin=" + checkIn.format(FMT) +
                 "&checkout=" + checkOut.format(FMT));
 
@@ -65,7 +65,7 @@ public class BookingFlowTest extends BasePlaywrightTest {
         LocalDate checkIn = LocalDate.now().minusMonths(1);
         LocalDate checkOut = checkIn.plusDays(1);
 
-        page.navigate("https://automationintesting.online/reservation/2" +
+        page.navigate(url("/reservation/2") +
                 "?checkin=" + checkIn.format(FMT) +
                 "&checkout=" + checkOut.format(FMT));
 
@@ -91,7 +91,7 @@ public class BookingFlowTest extends BasePlaywrightTest {
         LocalDate checkIn = LocalDate.now().plusDays(3);
         LocalDate checkOut = checkIn.plusDays(1);
 
-        page.navigate("https://automationintesting.online/reservation/2" +
+        page.navigate(url("/reservation/2") +
                 "?checkin=" + checkIn.format(FMT) +
                 "&checkout=" + checkOut.format(FMT));
 
@@ -1,36 +1,17 @@
 package ui.tests;
 
-import com.microsoft.playwright.Page;
-import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
-import pages.BookingPage;
-import ui.core.BasePlaywrightTest;
-
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
+import pages.validation.BookingForm;
 
 /**
  * Negative‑path validation suite for the room‑booking flow.
+ *
+ * Every case is rejected by the rules {@link pages.BookingPage#completeBooking}
+ * checks before it touches the page, so the suite runs them through
+ * {@link BookingForm} directly – no browser, no navigation
+ * (browser-free lane of {@link api.tests.TestRunner}).
  */
-public class BookingValidationTest extends BasePlaywrightTest {
-
-    private static final DateTimeFormatter FMT =
-            DateTimeFormatter.ofPattern("yyyy-MM-dd");
-
-    private BookingPage booking;
-
-    /** Opens the reservation page for tomorrow → tomorrow + 1 day before each test. */
-    @BeforeMethod
-    public void openReservation() {
-        booking = new BookingPage(page);
-
-        LocalDate tomorrow = LocalDate.now().plusDays(1);
-        String in  = tomorrow.format(FMT);
-        String out = tomorrow.plusDays(1).format(FMT);
-
-        page.navigate("https://automationintesting.online/reservation/2"
-                + "?checkin=" + in + "&checkout=" + out);
-    }
+public class BookingValidationTest {
 
     /* validation cases */
 
@@ -42,7 +23,7 @@ public class BookingValidationTest extends BasePlaywrightTest {
             expectedExceptionsMessageRegExp = "Firstname should not be blank"
     )
     public void firstnameBlank() {
-        booking.completeBooking(" ", "Doe", "john@ex.com", "12345678901");
+        BookingForm.check(" ", "Doe", "john@ex.com", "12345678901");
     }
 
     @Test(
@@ -51,7 +32,7 @@ public class BookingValidationTest extends BasePlaywrightTest {
             expectedExceptionsMessageRegExp = "size must be between 3 and 30"
     )
     public void firstnameTooShort() {
-        booking.completeBooking("Jo", "Doe", "john@ex.com", "12345678901");
+        BookingForm.check("Jo", "Doe", "john@ex.com", "12345678901");
     }
 
     @Test(
@@ -60,7 +41,7 @@ public class BookingValidationTest extends BasePlaywrightTest {
             expectedExceptionsMessageRegExp = "size must be between 3 and 30"
     )
     public void firstnameTooLong() {
-        booking.completeBooking("J".repeat(31), "Doe", "john@ex.com", "12345678901");
+        BookingForm.check("J".repeat(31), "Doe", "john@ex.com", "12345678901");
     }
 
     /* Last‑name */
@@ -71,7 +52,7 @@ public class BookingValidationTest extends BasePlaywrightTest {
             expectedExceptionsMessageRegExp = "Lastname should not be blank"
     )
     public void lastnameBlank() {
-        booking.completeBooking("John", " ", "john@ex.com", "12345678901");
+        BookingForm.check("John", " ", "john@ex.com", "12345678901");
     }
 
     @Test(
@@ -80,7 +61,7 @@ public class BookingValidationTest extends BasePlaywrightTest {
             expectedExceptionsMessageRegExp = "size must be between 3 and 18"
     )
     public void lastnameTooShort() {
-        booking.completeBooking("John", "Do", "john@ex.com", "12345678901");
+        BookingForm.check("John", "Do", "john@ex.com", "12345678901");
     }
 
     @Test(
@@ -89,7 +70,7 @@ public class BookingValidationTest extends BasePlaywrightTest {
             expectedExceptionsMessageRegExp = "size must be between 3 and 18"
     )
     public void lastnameTooLong() {
-        booking.completeBooking("John", "D".repeat(19), "john@ex.com", "12345678901");
+        BookingForm.check("John", "D".repeat(19), "john@ex.com", "12345678901");
     }
 
     /* E‑mail */
@@ -100,7 +81,7 @@ public class BookingValidationTest extends BasePlaywrightTest {
             expectedExceptionsMessageRegExp = "must not be empty"
     )
     public void emailBlank() {
-        booking.completeBooking("John", "Doe", " ", "12345678901");
+        BookingForm.check("John", "Doe", " ", "12345678901");
     }
 
     @Test(
@@ -109,7 +90,7 @@ public class BookingValidationTest extends BasePlaywrightTest {
             expectedExceptionsMessageRegExp = "well-formed email address"
     )
     public void emailMalformed() {
-        booking.completeBooking("John", "Doe", "bad@", "12345678901");
+        BookingForm.check("John", "Doe", "bad@", "12345678901");
     }
 
     /* Phone */
@@ -120,7 +101,7 @@ public class BookingValidationTest extends BasePlaywrightTest {
             expectedExceptionsMessageRegExp = "must not be empty"
     )
     public void phoneBlank() {
-        booking.completeBooking("John", "Doe", "john@ex.com", " ");
+        BookingForm.check("John", "Doe", "john@ex.com", " ");
     }
 
     @Test(
@@ -129,7 +110,7 @@ public class BookingValidationTest extends BasePlaywrightTest {
             expectedExceptionsMessageRegExp = "size must be between 11 and 21"
     )
     public void phoneTooShort() {
-        booking.completeBooking("John", "Doe", "john@ex.com", "1234567890");
+        BookingForm.check("John", "Doe", "john@ex.com", "1234567890");
     }
 
     @Test(
@@ -138,6 +119,6 @@ public class BookingValidationTest extends BasePlaywrightTest {
             expectedExceptionsMessageRegExp = "size must be between 11 and 21"
     )
     public void phoneTooLong() {
-        booking.completeBooking("John", "Doe", "john@ex.com", "1".repeat(22));
+        BookingForm.check("John", "Doe", "john@ex.com", "1".repeat(22));
     }
 }
@@ -0,0 +1,154 @@
+package ui.tests;
+
+import org.testng.annotations.Test;
+import pages.validation.ContactForm;
+
+/**
+ * Negative‑path validations of the Contact‑Us form.
+ *
+ * {@link pages.ContactUsPage#fillContactForm} rejects all of these before
+ * typing anything, so they run against {@link ContactForm} directly –
+ * no browser, no navigation (browser-free lane of {@link api.tests.TestRunner}).
+ */
+public class ContactFormValidationTest {
+
+    /* negative path */
+
+    /* Name */
+
+    @Test(
+            expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = "Name may not be blank",
+            description = "Blank name should throw"
+    )
+    public void blankName() {
+        ContactForm.check(" ", "a@b.c", "12345678901",
+                "Subject", "This message is long enough.");
+    }
+
+    /* Email */
+
+    @Test(
+            expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = "Email may not be blank",
+            description = "Blank e‑mail should throw"
+    )
+    public void blankEmail() {
+        ContactForm.check("John", " ", "12345678901",
+                "Subject", "This message is long enough.");
+    }
+
+    /* Phone */
+
+    @Test(
+            expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = "Phone may not be blank",
+            description = "Blank phone should throw"
+    )
+    public void blankPhone() {
+        ContactForm.check("John", "a@b.c", " ",
+                "Subject", "This message is long enough.");
+    }
+
+    /* Subject */
+
+    @Test(
+            expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = "Subject may not be blank",
+            description = "Blank subject should throw"
+    )
+    public void blankSubject() {
+        ContactForm.check("John", "a@b.c", "12345678901",
+                " ", "This message is long enough.");
+    }
+
+    /* Message */
+
+    @Test(
+            expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = "Message may not be blank",
+            description = "Blank message should throw"
+    )
+    public void blankMessage() {
+        ContactForm.check("John", "a@b.c", "12345678901",
+                "Subject", " ");
+    }
+
+    /* Subject length */
+
+    @Test(
+            expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = "Subject must be between 5 and 100 characters",
+            description = "Subject too short"
+    )
+    public void subjectTooShort() {
+        ContactForm.check("John", "a@b.c", "12345678901",
+                "abc", "This message is long enough.");
+    }
+
+    @Test(
+            expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = "Subject must be between 5 and 100 characters",
+            description = "Subject too long"
+    )
+    public void subjectTooLong() {
+        ContactForm.check("John", "a@b.c", "12345678901",
+                "S".repeat(101), "This message is long enough.");
+    }
+
+    /* Phone length */
+
+    @Test(
+            expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = "Phone must be between 11 and 21 characters",
+            description = "Phone too short"
+    )
+    public void phoneTooShort() {
+        ContactForm.check("John", "a@b.c", "1234567",
+                "Subject", "This message is long enough.");
+    }
+
+    @Test(
+            expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = "Phone must be between 11 and 21 characters",
+            description = "Phone too long"
+    )
+    public void phoneTooLong() {
+        ContactForm.check("John", "a@b.c", "1".repeat(22),
+                "Subject", "This message is long enough.");
+    }
+
+    /* Message length */
+
+    @Test(
+            expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = "Message must be between 20 and 2000 characters",
+            description = "Message too short"
+    )
+    public void messageTooShort() {
+        ContactForm.check("John", "a@b.c", "12345678901",
+                "Subject", "Too short");
+    }
+
+    @Test(
+            expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = "Message must be between 20 and 2000 characters",
+            description = "Message too long"
+    )
+    public void messageTooLong() {
+        ContactForm.check("John", "a@b.c", "12345678901",
+                "Subject", "M".repeat(2001));
+    }
+
+    /* E‑mail format */
+
+    @Test(
+            expectedExceptions = IllegalArgumentException.class,
+            expectedExceptionsMessageRegExp = "Email must be a well-formed email address",
+            description = "Malformed e‑mail should throw"
+    )
+    public void invalidEmail() {
+        ContactForm.check("John", "invalid-email@", "12345678901",
+                "Subject", "This message is long enough.");
+    }
+}
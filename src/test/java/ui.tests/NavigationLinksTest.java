@@ -6,6 +6,7 @@ import org.testng.annotations.*;
 import pages.HomePage;
 import pages.NavigationBar;
 import ui.core.BasePlaywrightTest;
+import ui.core.NetworkPolicy;
 
 /**
  * Verifies that every top‑navigation link opens the correct section or page.
@@ -17,11 +18,17 @@ public class NavigationLinksTest extends BasePlaywrightTest {
     private HomePage      home;
     private NavigationBar nav;
 
+    /* links only change the URL – first-party page, scripts and styles are enough */
+    @Override
+    protected NetworkPolicy networkPolicy() {
+        return NetworkPolicy.preset("strict");
+    }
+
     /* per‑test setup */
 
     @BeforeMethod
     public void openHomePage() {
-        page.navigate("https://automationintesting.online/");
+        page.navigate(url("/"));
         home = new HomePage(page);
         nav  = new NavigationBar(page);
     }
@@ -0,0 +1,130 @@
+package ui.core;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.options.Cookie;
+import com.microsoft.playwright.options.SameSiteAttribute;
+import pages.AdminLoginPage;
+import pages.BasePage;
+import utils.Config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Authenticated admin session shared by the whole run.
+ *
+ * - The first caller logs in through the UI once and the resulting Playwright
+ *   storage state is kept in memory and written to {@code ui.adminState}
+ *   (default test-output/auth/admin-state-&lt;host&gt;.json, one per site under test, so
+ *   stub and real-site runs keep their own) for the next run to start from.
+ * - Every later caller gets the cached cookies injected into its context and
+ *   lands on /admin/rooms without touching the login form.
+ * - If the cached token cookie is past its expiry, or the server shows the
+ *   login form anyway, the cache is dropped and the login is repeated.
+ */
+public final class AdminSession {
+
+    /** Either the login form or an admin side-menu link – whichever renders first. */
+    private static final String LOGIN_OR_MENU = "#username, a[href='/admin/report']";
+
+    private static String cachedState;                  // guarded by AdminSession.class
+
+    private AdminSession() {}
+
+    /** Leaves {@code page} on /admin/rooms, authenticated. */
+    public static void open(Page page) {
+        String state = state();
+        if (state != null) {
+            page.context().addCookies(cookies(state));
+            page.navigate(BasePage.baseUrl() + "/admin/rooms");
+            page.waitForSelector(LOGIN_OR_MENU);
+            if (!new AdminLoginPage(page).isAt()) return;
+
+            System.out.println("  [admin] cached session expired – logging in again");
+            invalidate(state);
+        }
+        login(page);
+    }
+
+    /** Cached state, or {@code null} when a UI login is needed first. */
+    private static synchronized String state() {
+        Path file = stateFile();
+        if (cachedState == null && Files.exists(file)) {
+            try {
+                cachedState = Files.readString(file);
+            } catch (IOException e) {
+                cachedState = null;
+            }
+        }
+        if (cachedState != null && expired(cachedState)) cachedState = null;
+        return cachedState;
+    }
+
+    private static synchronized void invalidate(String stale) {
+        if (stale.equals(cachedState)) cachedState = null;
+    }
+
+    private static void login(Page page) {
+        page.navigate(BasePage.baseUrl() + "/admin");
+        new AdminLoginPage(page).login(Config.ADMIN_USERNAME, Config.ADMIN_PASSWORD);
+        page.waitForURL("**/admin/rooms");
+
+        String state = page.context().storageState();
+        synchronized (AdminSession.class) {
+            cachedState = state;
+        }
+        Path file = stateFile();
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, state);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot persist admin storage state", e);
+        }
+    }
+
+    /** {@code ui.adminState} if set, else a file named after the host of {@link BasePage#baseUrl()}. */
+    private static Path stateFile() {
+        String configured = Config.setting("ui.adminState", "");
+        if (!configured.isEmpty()) return Path.of(configured);
+        String host = URI.create(BasePage.baseUrl()).getHost();
+        return Path.of("test-output", "auth", "admin-state-" + host.replaceAll("[^A-Za-z0-9.-]", "_") + ".json");
+    }
+
+    /* ───────────────────────── storage-state parsing ───────────────────────── */
+
+    private static boolean expired(String state) {
+        double now = System.currentTimeMillis() / 1000.0;
+        for (JsonElement c : JsonParser.parseString(state).getAsJsonObject().getAsJsonArray("cookies")) {
+            JsonObject o = c.getAsJsonObject();
+            double expires = o.has("expires") ? o.get("expires").getAsDouble() : -1;
+            if ("token".equals(o.get("name").getAsString()) && expires > 0 && expires <= now) return true;
+        }
+        return false;
+    }
+
+    private static List<Cookie> cookies(String state) {
+        List<Cookie> out = new ArrayList<>();
+        for (JsonElement c : JsonParser.parseString(state).getAsJsonObject().getAsJsonArray("cookies")) {
+            JsonObject o = c.getAsJsonObject();
+            Cookie cookie = new Cookie(o.get("name").getAsString(), o.get("value").getAsString())
+                    .setDomain(o.get("domain").getAsString())
+                    .setPath(o.get("path").getAsString())
+                    .setHttpOnly(o.get("httpOnly").getAsBoolean())
+                    .setSecure(o.get("secure").getAsBoolean());
+            if (o.has("expires") && o.get("expires").getAsDouble() > 0)
+                cookie.setExpires(o.get("expires").getAsDouble());
+            if (o.has("sameSite"))
+                cookie.setSameSite(SameSiteAttribute.valueOf(o.get("sameSite").getAsString().toUpperCase()));
+            out.add(cookie);
+        }
+        return out;
+    }
+}
@@ -1,17 +1,39 @@
 package ui.core;
 
 import com.microsoft.playwright.*;
+import core.CurrentTest;
+import core.PlaywrightRuntime;
+import core.jfr.FlightRecording;
+import org.testng.ITestResult;
 import org.testng.annotations.*;
+import pages.ActionTimings;
+import pages.BasePage;
+import ui.stub.SiteStub;
+import utils.Config;
 
+import java.lang.reflect.Method;
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Base class for all Playwright-based UI tests.
  *
- * - A single headed Chromium browser is launched once per test class.
- * - Each test method runs in an isolated context with its own page.
+ * - Driver, Chromium and context pool come from the thread's {@link PlaywrightRuntime}:
+ *   started by the first test that needs them and shared by every later class.
+ *   With {@code -Dui.threads=N} (N > 1) classes run in parallel, one runtime per worker thread.
+ * - Each test method runs in an isolated context with its own page; contexts
+ *   come pre-created from a {@link ContextPool} and are reset between tests.
+ * - {@code -Dui.har=record|replay} records each test's traffic to a HAR or
+ *   serves it back from one (see {@link HarSupport}).
+ * - Requests the tests never look at (images, fonts, third-party scripts…) are
+ *   blocked per {@link #networkPolicy()} (see {@link NetworkPolicy}).
+ * - Every browser call is timed per test, page action and selector ({@link ActionTimings}).
+ * - Each test is traced; a failed test leaves its trace, a screenshot and the DOM
+ *   under test-output/failures, a passing one leaves nothing ({@link FailureArtifacts}).
+ * - Bookings a test needs beforehand come from {@link #fixtures()} (created over
+ *   HTTP, deleted after the test).
  * - Includes utility methods for date generation and shared Random instance.
  */
 public abstract class BasePlaywrightTest {
@@ -21,32 +43,83 @@ public abstract class BasePlaywrightTest {
     protected BrowserContext context;
     protected Page page;
 
+    /** Id of the running test: method name, plus data-provider arguments if any. */
+    protected String testName;
+
+    private ContextPool contexts;
+    private NetworkPolicy network;
+    private NetworkPolicy.Tally blocked;
+    private Page tracedPage;                   // the page itself, so failure captures are not timed as actions
+    private BookingFixtures fixtures;
+
     // Shared random instance for all test classes
     protected Random random = new Random();
 
-    @BeforeClass
-    public void launchBrowserOnce() {
-        playwright = Playwright.create();
-        browser = playwright.chromium()
-                .launch(new BrowserType.LaunchOptions().setHeadless(false));
+    @BeforeMethod
+    public void createNewContextAndPage(Method method, Object[] params) {
+        testName = method.getName() + (params.length == 0 ? "" : Arrays.toString(params));
+        if (Config.UI_STUB) SiteStub.shared();     // points ui.baseUrl at the stand-in
+
+        PlaywrightRuntime runtime = PlaywrightRuntime.current();
+        playwright = runtime.playwright();
+        browser = runtime.browser();
+        contexts = runtime.contexts();
+        if (HarSupport.recording()) {
+            context = HarSupport.record(browser, getClass(), testName);   // HAR is written on close
+        } else {
+            context = FlightRecording.phase("context acquire", contexts::acquire);
+            if (HarSupport.replaying()) HarSupport.replay(context, getClass(), testName);
+        }
+        network = networkPolicy();
+        blocked = network.apply(context);          // after the HAR route, so it is consulted first
+        FailureArtifacts.begin(context, HarSupport.recording() || contexts.markTraced(context),
+                getClass().getSimpleName() + "#" + testName);
+        tracedPage = context.newPage();
+        page = ActionTimings.instrument(tracedPage);
+        NetworkPolicy.observe(page);
+        CurrentTest.set(getClass().getSimpleName() + "#" + testName);
     }
 
-    @BeforeMethod
-    public void createNewContextAndPage() {
-        context = browser.newContext();
-        page = context.newPage();
+    /** Precondition bookings of the running test, removed when it ends. */
+    protected BookingFixtures fixtures() {
+        if (fixtures == null) fixtures = new BookingFixtures(playwright);
+        return fixtures;
+    }
+
+    /** Requests to block for this class; defaults to the {@code ui.network} preset. */
+    protected NetworkPolicy networkPolicy() {
+        return NetworkPolicy.defaultPolicy();
     }
 
     @AfterMethod(alwaysRun = true)
-    public void closeContextAfterEachTest() {
-        if (page != null && !page.isClosed()) page.close();
-        if (context != null) context.close();
+    public void closeContextAfterEachTest(ITestResult result) {
+        CurrentTest.clear();
+        // before fixtures and the pool touch the page, so the capture shows it as the test left it
+        FailureArtifacts.end(context, tracedPage, getClass(), testName,
+                result.getStatus() == ITestResult.FAILURE ? result.getThrowable() : null);
+        if (fixtures != null) fixtures.close();
+        fixtures = null;
+        if (blocked != null) network.record(getClass(), testName, blocked);
+        blocked = null;
+        // the pool wipes storage through the open pages before closing them (and drops the routes)
+        if (context != null) {
+            if (HarSupport.recording()) context.close();
+            else contexts.release(context);
+        }
+        context = null;
+        page = null;
+        tracedPage = null;
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void closeRuntimeAfterSuite() {
+        FailureArtifacts.flush();
+        if (!PlaywrightRuntime.retained()) PlaywrightRuntime.shutdown();   // TestRunner closes it itself
     }
 
-    @AfterClass(alwaysRun = true)
-    public void closeBrowserAfterAllTests() {
-        if (browser != null) browser.close();
-        if (playwright != null) playwright.close();
+    /** Absolute URL of {@code path} on the site under test (real site or local stand-in). */
+    protected static String url(String path) {
+        return BasePage.baseUrl() + path;
     }
 
     /**
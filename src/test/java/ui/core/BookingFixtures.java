@@ -0,0 +1,130 @@
+package ui.core;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.microsoft.playwright.APIRequest;
+import com.microsoft.playwright.APIRequestContext;
+import com.microsoft.playwright.APIResponse;
+import com.microsoft.playwright.Playwright;
+import com.microsoft.playwright.options.RequestOptions;
+import pages.BasePage;
+import utils.Config;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Bookings a UI test needs as a precondition, created over the site's own API
+ * instead of through the reservation pages.
+ *
+ * - {@link #book} posts to {@code /api/booking} (the call the booking form
+ *   makes), so the site records the booking and its admin inbox message as usual.
+ * - {@link #close} deletes everything created here, with a token from
+ *   {@code /api/auth/login}; failures are reported, never thrown.
+ * - Uses its own HTTP context on the thread's driver, so the browser context's
+ *   cookies stay untouched.
+ *
+ * Only tests of the booking flow itself should still book through the UI.
+ */
+public final class BookingFixtures implements AutoCloseable {
+
+    /** A booking created for the test. */
+    public record Seeded(int id, int roomId, String firstname, String lastname, String email, String phone,
+                         LocalDate checkin, LocalDate checkout) {
+        public String guest() { return firstname + " " + lastname; }
+    }
+
+    private final Playwright playwright;
+    private APIRequestContext api;                      // opened on first booking
+    private final List<Seeded> created = new ArrayList<>();
+
+    BookingFixtures(Playwright playwright) {
+        this.playwright = playwright;
+    }
+
+    /**
+     * Creates the booking; room ids as on the site (1 single, 2 double, 3 suite).
+     *
+     * @throws IllegalStateException if the site does not accept it
+     */
+    public Seeded book(int roomId, String firstname, String lastname, String email, String phone,
+                       LocalDate checkin, LocalDate checkout) {
+        JsonObject dates = new JsonObject();
+        dates.addProperty("checkin", checkin.toString());
+        dates.addProperty("checkout", checkout.toString());
+        JsonObject body = new JsonObject();
+        body.addProperty("roomid", roomId);
+        body.addProperty("firstname", firstname);
+        body.addProperty("lastname", lastname);
+        body.addProperty("depositpaid", false);
+        body.addProperty("email", email);
+        body.addProperty("phone", phone);
+        body.add("bookingdates", dates);
+
+        APIResponse r = api().post("/api/booking", RequestOptions.create()
+                .setHeader("Content-Type", "application/json")
+                .setData(body));
+        if (r.status() != 200 && r.status() != 201) {
+            throw new IllegalStateException("POST /api/booking -> " + r.status() + ": " + r.text());
+        }
+        JsonElement id = JsonParser.parseString(r.text()).getAsJsonObject().get("bookingid");
+        Seeded seeded = new Seeded(id == null ? 0 : id.getAsInt(), roomId, firstname, lastname, email, phone,
+                checkin, checkout);
+        created.add(seeded);
+        System.out.printf("  [fixtures] booked room %d for %s, %s..%s (id %d)%n",
+                roomId, seeded.guest(), checkin, checkout, seeded.id());
+        return seeded;
+    }
+
+    /** Deletes the bookings made here and closes the HTTP context. */
+    @Override
+    public void close() {
+        if (api == null) return;
+        try {
+            if (!created.isEmpty()) deleteCreated();
+        } catch (RuntimeException e) {
+            System.err.println("  [fixtures] cleanup failed – " + e);
+        } finally {
+            created.clear();
+            api.dispose();
+            api = null;
+        }
+    }
+
+    /* ───────────────────────── internals ───────────────────────── */
+
+    private APIRequestContext api() {
+        if (api == null) {
+            api = playwright.request().newContext(new APIRequest.NewContextOptions().setBaseURL(BasePage.baseUrl()));
+        }
+        return api;
+    }
+
+    private void deleteCreated() {
+        String token = adminToken();
+        for (Seeded b : created) {
+            if (b.id() <= 0) {
+                System.err.println("  [fixtures] site returned no id for " + b.guest() + " – left in place");
+                continue;
+            }
+            int status = api.delete("/api/booking/" + b.id(),
+                    RequestOptions.create().setHeader("Cookie", "token=" + token)).status();
+            if (status >= 300 && status != 404) {
+                System.err.printf("  [fixtures] DELETE /api/booking/%d -> %d%n", b.id(), status);
+            }
+        }
+    }
+
+    private String adminToken() {
+        JsonObject credentials = new JsonObject();
+        credentials.addProperty("username", Config.ADMIN_USERNAME);
+        credentials.addProperty("password", Config.ADMIN_PASSWORD);
+        APIResponse r = api.post("/api/auth/login", RequestOptions.create()
+                .setHeader("Content-Type", "application/json")
+                .setData(credentials));
+        if (r.status() != 200) throw new IllegalStateException("POST /api/auth/login -> " + r.status());
+        return JsonParser.parseString(r.text()).getAsJsonObject().get("token").getAsString();
+    }
+}
@@ -0,0 +1,177 @@
+package ui.core;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import core.jfr.FlightRecording;
+import utils.Config;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Warm pool of {@link BrowserContext}s for one browser.
+ *
+ * - {@code ui.contextPool.size} contexts are created up front and kept idle;
+ *   a test gets one of them instead of paying for {@code browser.newContext()}.
+ * - On release the context is reset: pages are closed after their local/session
+ *   storage is wiped, routes are removed, cookies and permissions are cleared.
+ *   A context that still reports stored origins, fails to reset, or reached
+ *   {@code ui.contextPool.maxUses} is closed and replaced while the test is tearing down.
+ * - Like every Playwright object the pool is confined to the thread that owns the browser.
+ * - {@code ui.contextPool.size=0} restores the plain newContext()/close() behaviour.
+ */
+public final class ContextPool {
+
+    public static final int SIZE     = Config.intSetting("ui.contextPool.size", 2);
+    public static final int MAX_USES = Config.intSetting("ui.contextPool.maxUses", 20);
+
+    private static final String CLEAR_STORAGE =
+            "() => { try { localStorage.clear(); sessionStorage.clear(); } catch (e) {} }";
+
+    /* run-wide statistics, shared by every pool */
+    private static final LongAdder COLD_CREATES = new LongAdder();
+    private static final LongAdder COLD_NANOS   = new LongAdder();
+    private static final LongAdder WARM_LEASES  = new LongAdder();
+    private static final LongAdder WARM_NANOS   = new LongAdder();
+    private static final LongAdder RESETS       = new LongAdder();
+    private static final LongAdder RESET_NANOS  = new LongAdder();
+    private static final LongAdder RECYCLED     = new LongAdder();
+
+    private static final class Slot {
+        final BrowserContext context;
+        int uses;
+        boolean traced;                         // tracing started on it; outlives daemon runs with the pool
+        Slot(BrowserContext context) { this.context = context; }
+    }
+
+    private final Browser browser;
+    private final Deque<Slot> idle = new ArrayDeque<>();
+    private final Map<BrowserContext, Slot> leased = new IdentityHashMap<>();
+
+    public ContextPool(Browser browser) {
+        this.browser = browser;
+        topUp();
+    }
+
+    /** Hands out a clean context – warm if one is idle, freshly created otherwise. */
+    public BrowserContext acquire() {
+        long t0 = System.nanoTime();
+        Slot slot = idle.pollFirst();
+        if (slot == null) {
+            slot = create();
+        } else {
+            WARM_LEASES.increment();
+            WARM_NANOS.add(System.nanoTime() - t0);
+        }
+        slot.uses++;
+        leased.put(slot.context, slot);
+        return slot.context;
+    }
+
+    /** Resets the context and keeps it for the next test, or closes it if it cannot be reused. */
+    public void release(BrowserContext context) {
+        Slot slot = leased.remove(context);
+        if (slot == null) {                         // not handed out by this pool
+            closeQuietly(context);
+            return;
+        }
+        if (SIZE > 0 && slot.uses < MAX_USES && FlightRecording.phase("context reset", () -> reset(context))) {
+            idle.addFirst(slot);
+        } else {
+            closeQuietly(context);
+            if (SIZE > 0) RECYCLED.increment();
+        }
+        topUp();
+    }
+
+    /**
+     * Records that tracing is started on {@code context}; false if it already
+     * was, so the caller only opens a new chunk. Contexts the pool did not hand
+     * out are closed after their test, so they always count as fresh.
+     */
+    public boolean markTraced(BrowserContext context) {
+        Slot slot = leased.get(context);
+        if (slot == null) return true;
+        boolean fresh = !slot.traced;
+        slot.traced = true;
+        return fresh;
+    }
+
+    /** Closes idle and leased contexts; the browser itself stays open. */
+    public void close() {
+        idle.forEach(s -> closeQuietly(s.context));
+        leased.keySet().forEach(ContextPool::closeQuietly);
+        idle.clear();
+        leased.clear();
+    }
+
+    /* ───────────────────────── internals ───────────────────────── */
+
+    private Slot create() {
+        long t0 = System.nanoTime();
+        Slot slot = new Slot(FlightRecording.phase("context create", () -> browser.newContext()));
+        COLD_CREATES.increment();
+        COLD_NANOS.add(System.nanoTime() - t0);
+        return slot;
+    }
+
+    private void topUp() {
+        while (idle.size() < SIZE) idle.addLast(create());
+    }
+
+    private static boolean reset(BrowserContext context) {
+        long t0 = System.nanoTime();
+        try {
+            for (Page p : context.pages()) {
+                if (!p.isClosed()) {
+                    p.evaluate(CLEAR_STORAGE);
+                    p.close();
+                }
+            }
+            context.unrouteAll();
+            context.clearCookies();
+            context.clearPermissions();
+
+            // storage of origins that were not open at release time cannot be wiped
+            JsonObject state = JsonParser.parseString(context.storageState()).getAsJsonObject();
+            return state.getAsJsonArray("origins").isEmpty();
+        } catch (RuntimeException e) {
+            return false;
+        } finally {
+            RESETS.increment();
+            RESET_NANOS.add(System.nanoTime() - t0);
+        }
+    }
+
+    private static void closeQuietly(BrowserContext context) {
+        try {
+            FlightRecording.phase("context close", (Runnable) context::close);
+        } catch (RuntimeException ignored) {
+            // browser already gone
+        }
+    }
+
+    /* ───────────────────────── reporting ───────────────────────── */
+
+    /** One-line summary of pool efficiency for the run (empty when the pool was not used). */
+    public static String report() {
+        long cold = COLD_CREATES.sum();
+        long warm = WARM_LEASES.sum();
+        if (cold + warm == 0) return "";
+
+        double coldAvgMs  = cold == 0 ? 0 : COLD_NANOS.sum() / 1e6 / cold;
+        double resetAvgMs = RESETS.sum() == 0 ? 0 : RESET_NANOS.sum() / 1e6 / RESETS.sum();
+        double spentMs    = (WARM_NANOS.sum() + RESET_NANOS.sum()) / 1e6;
+        double savedMs    = warm * coldAvgMs - spentMs;
+
+        return String.format(
+                "[CONTEXT POOL] warm: %d, cold: %d (avg %.1f ms), reset avg %.1f ms, recycled: %d, setup time saved ≈ %.0f ms",
+                warm, cold, coldAvgMs, resetAvgMs, RECYCLED.sum(), savedMs);
+    }
+}
@@ -0,0 +1,208 @@
+package ui.core;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Tracing;
+import utils.Config;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Playwright trace, screenshot and DOM of failed UI tests ({@code -Dui.trace=failures|off}).
+ *
+ * - Every test records into its own trace chunk: tracing is started once per
+ *   context and each test opens a new chunk, so the driver only ever holds the
+ *   current test's actions. Pooled contexts keep tracing across tests, and across
+ *   runs of the resident daemon, so whether it is on is kept by the
+ *   {@link ContextPool}, which outlives this class.
+ * - A passing test's chunk is stopped without a path, which makes the driver
+ *   drop it. A failing test's chunk is saved to
+ *   {@code <ui.trace.dir>/<Class>/<test>/trace.zip} next to a screenshot,
+ *   the page's DOM and the failure, for up to {@code ui.trace.maxFailures} tests per run.
+ * - The driver builds the trace archive on {@code stopChunk} and, like every
+ *   Playwright call, that stays on the test's thread. Screenshot bytes and DOM
+ *   are captured there too; writing them (and the failure text) to disk is left
+ *   to a single writer thread with a bounded queue, drained by {@link #flush()}.
+ * - Snapshots are recorded, screencast frames only with {@code ui.trace.screenshots=true}:
+ *   they are most of a trace's size and recording cost.
+ */
+public final class FailureArtifacts {
+
+    public static final String MODE         = Config.setting("ui.trace", "failures");
+    public static final Path   DIR          = Path.of(Config.setting("ui.trace.dir", "test-output/failures"));
+    public static final int    MAX_FAILURES = Config.intSetting("ui.trace.maxFailures", 20);
+    public static final boolean SCREENCAST  = Config.flag("ui.trace.screenshots", false);
+
+    private static final int QUEUE = 32;
+    private static final double SCREENSHOT_TIMEOUT_MS = 5_000;
+
+    /* contexts with a chunk open; weak, as pooled contexts outlive tests */
+    private static final Set<BrowserContext> RECORDING = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    /* run-wide statistics */
+    private static final LongAdder CHUNKS        = new LongAdder();
+    private static final LongAdder DISCARDED     = new LongAdder();
+    private static final LongAdder DISCARD_NANOS = new LongAdder();
+    private static final LongAdder SAVED         = new LongAdder();
+    private static final LongAdder CAPTURE_NANOS = new LongAdder();
+    private static final LongAdder WRITE_NANOS   = new LongAdder();
+    private static final LongAdder OVER_LIMIT    = new LongAdder();
+    private static final AtomicInteger FAILURES  = new AtomicInteger();
+
+    // full queue → the test thread writes itself, so pending artifacts never pile up in memory;
+    // the idle thread ends, so a daemon run's copy of this class does not keep one alive
+    private static final ThreadPoolExecutor WRITER = new ThreadPoolExecutor(1, 1, 2, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(QUEUE), r -> {
+                Thread t = new Thread(r, "failure-artifacts");
+                t.setDaemon(true);
+                return t;
+            }, new ThreadPoolExecutor.CallerRunsPolicy());
+
+    static {
+        WRITER.allowCoreThreadTimeOut(true);
+    }
+
+    private FailureArtifacts() {}
+
+    public static boolean enabled() {
+        return !"off".equalsIgnoreCase(MODE);
+    }
+
+    /**
+     * Opens the trace chunk of {@code test} in {@code context}; {@code fresh}
+     * when tracing has not been started on the context yet ({@link ContextPool#markTraced}).
+     */
+    public static void begin(BrowserContext context, boolean fresh, String test) {
+        if (!enabled()) return;
+        Tracing tracing = context.tracing();
+        if (RECORDING.remove(context)) tracing.stopChunk();     // left open by a test that never reached end()
+        if (fresh) {
+            tracing.start(new Tracing.StartOptions()
+                    .setTitle(test).setSnapshots(true).setScreenshots(SCREENCAST).setSources(false));
+        } else {
+            tracing.startChunk(new Tracing.StartChunkOptions().setTitle(test));
+        }
+        RECORDING.add(context);
+        CHUNKS.increment();
+    }
+
+    /**
+     * Closes the chunk opened by {@link #begin}: dropped when {@code failure} is null,
+     * otherwise saved with a screenshot and the DOM of {@code page} (may be null).
+     */
+    public static void end(BrowserContext context, Page page, Class<?> testClass, String test, Throwable failure) {
+        if (!enabled() || context == null || !RECORDING.remove(context)) return;
+        long t0 = System.nanoTime();
+        if (failure == null || FAILURES.incrementAndGet() > MAX_FAILURES) {
+            if (failure != null) OVER_LIMIT.increment();
+            try {
+                context.tracing().stopChunk();
+            } catch (RuntimeException ignored) {
+                // context already closed – nothing left to drop
+            }
+            DISCARDED.increment();
+            DISCARD_NANOS.add(System.nanoTime() - t0);
+            return;
+        }
+
+        Path dir = dir(testClass, test);
+        createDirectories(dir);
+        try {
+            context.tracing().stopChunk(new Tracing.StopChunkOptions().setPath(dir.resolve("trace.zip")));
+        } catch (RuntimeException e) {
+            System.err.println("  [trace] no trace for " + test + " – " + e.getMessage());
+        }
+        byte[] screenshot = null;
+        String dom = null;
+        if (page != null && !page.isClosed()) {
+            try {
+                screenshot = page.screenshot(new Page.ScreenshotOptions().setFullPage(true).setTimeout(SCREENSHOT_TIMEOUT_MS));
+                dom = page.content();
+            } catch (RuntimeException e) {
+                System.err.println("  [trace] no screenshot/DOM for " + test + " – " + e.getMessage());
+            }
+        }
+        CAPTURE_NANOS.add(System.nanoTime() - t0);
+
+        byte[] png = screenshot;
+        String html = dom;
+        String error = stackTrace(failure);
+        WRITER.execute(() -> write(dir, png, html, error));
+    }
+
+    /** Waits until every queued artifact is on disk. */
+    public static void flush() {
+        try {
+            WRITER.submit(() -> {}).get();              // single writer: everything queued before is done
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /** Where the artifacts of {@code test} (id from {@link BasePlaywrightTest}) go. */
+    public static Path dir(Class<?> testClass, String test) {
+        return DIR.resolve(testClass.getSimpleName()).resolve(test.replaceAll("[^A-Za-z0-9._#-]", "_"));
+    }
+
+    /* ───────────────────────── internals ───────────────────────── */
+
+    private static void write(Path dir, byte[] png, String html, String error) {
+        long t0 = System.nanoTime();
+        try {
+            if (png != null) Files.write(dir.resolve("screenshot.png"), png);
+            if (html != null) Files.writeString(dir.resolve("dom.html"), html, StandardCharsets.UTF_8);
+            Files.writeString(dir.resolve("failure.txt"), error, StandardCharsets.UTF_8);
+            SAVED.increment();
+        } catch (IOException e) {
+            System.err.println("  [trace] cannot write " + dir + " – " + e);
+        } finally {
+            WRITE_NANOS.add(System.nanoTime() - t0);
+        }
+    }
+
+    private static void createDirectories(Path dir) {
+        try {
+            Files.createDirectories(dir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create " + dir, e);
+        }
+    }
+
+    private static String stackTrace(Throwable t) {
+        StringWriter out = new StringWriter();
+        t.printStackTrace(new PrintWriter(out));
+        return out.toString();
+    }
+
+    /* ───────────────────────── reporting ───────────────────────── */
+
+    /** One-line summary of tracing for the run (empty when nothing was traced). */
+    public static String report() {
+        long chunks = CHUNKS.sum();
+        if (chunks == 0) return "";
+        long discarded = DISCARDED.sum();
+        long saved = SAVED.sum();
+        return String.format(
+                "[TRACE] %d test chunks: %d dropped (avg %.1f ms), %d failures saved to %s (capture avg %.0f ms, written in background %.0f ms)%s",
+                chunks, discarded, discarded == 0 ? 0 : DISCARD_NANOS.sum() / 1e6 / discarded,
+                saved, DIR, saved == 0 ? 0 : CAPTURE_NANOS.sum() / 1e6 / saved, WRITE_NANOS.sum() / 1e6,
+                OVER_LIMIT.sum() == 0 ? "" : ", " + OVER_LIMIT.sum() + " over ui.trace.maxFailures");
+    }
+}
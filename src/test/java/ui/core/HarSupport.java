@@ -0,0 +1,60 @@
+package ui.core;
+
+import com.microsoft.playwright.Browser;
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.options.HarNotFound;
+import utils.Config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * HAR record / replay for UI tests ({@code -Dui.har=off|record|replay}).
+ *
+ * - record: every test gets a dedicated context that writes all its traffic to
+ *   {@code <ui.har.dir>/<Class>/<test>.har} when the context is closed.
+ * - replay: the test's context is routed from that HAR; requests missing from it
+ *   are aborted ({@code ui.har.notFound=abort}, the default) or sent to the
+ *   network ({@code fallback}).
+ */
+public final class HarSupport {
+
+    public static final String MODE      = Config.setting("ui.har", "off");
+    public static final Path   DIR       = Path.of(Config.setting("ui.har.dir", "test-output/har"));
+    public static final String NOT_FOUND = Config.setting("ui.har.notFound", "abort");
+
+    private HarSupport() {}
+
+    public static boolean recording() { return "record".equalsIgnoreCase(MODE); }
+    public static boolean replaying() { return "replay".equalsIgnoreCase(MODE); }
+
+    /** Where the HAR of {@code test} (id from {@link BasePlaywrightTest}) lives. */
+    public static Path file(Class<?> testClass, String test) {
+        return DIR.resolve(testClass.getSimpleName()).resolve(test.replaceAll("[^A-Za-z0-9._#-]", "_") + ".har");
+    }
+
+    /** Opens a context recording into the test's HAR; the file is written on {@code context.close()}. */
+    public static BrowserContext record(Browser browser, Class<?> testClass, String test) {
+        Path har = file(testClass, test);
+        try {
+            Files.createDirectories(har.getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create " + har.getParent(), e);
+        }
+        return browser.newContext(new Browser.NewContextOptions().setRecordHarPath(har));
+    }
+
+    /** Serves the context's traffic from the test's HAR. */
+    public static void replay(BrowserContext context, Class<?> testClass, String test) {
+        Path har = file(testClass, test);
+        boolean fallback = "fallback".equalsIgnoreCase(NOT_FOUND);
+        if (!Files.exists(har)) {
+            if (fallback) return;                       // nothing recorded – go to the network
+            throw new IllegalStateException("No HAR for " + test + " at " + har + " – record it with -Dui.har=record");
+        }
+        context.routeFromHAR(har, new BrowserContext.RouteFromHAROptions()
+                .setNotFound(fallback ? HarNotFound.FALLBACK : HarNotFound.ABORT));
+    }
+}
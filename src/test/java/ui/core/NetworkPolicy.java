@@ -0,0 +1,230 @@
+package ui.core;
+
+import com.microsoft.playwright.BrowserContext;
+import com.microsoft.playwright.Page;
+import com.microsoft.playwright.Request;
+import com.microsoft.playwright.Response;
+import pages.BasePage;
+import utils.Config;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Request filter applied to every UI test context.
+ *
+ * A policy either allowlists (only matching requests pass) or denylists
+ * (matching requests are aborted) by Playwright resource type and URL regex.
+ * Named presets:
+ * - {@code off}    – nothing is blocked.
+ * - {@code lean}   – images, media, fonts and known third-party hosts (maps,
+ *                    analytics, web fonts) are blocked. Default.
+ * - {@code strict} – only first-party document, script, stylesheet, xhr and
+ *                    fetch requests pass.
+ *
+ * {@code -Dui.network=<preset>} picks the default; a test class can override
+ * {@link BasePlaywrightTest#networkPolicy()} to choose its own.
+ *
+ * The route is added to the context after any HAR route, so it decides first and
+ * hands allowed requests on with {@code route.fallback()}. Pooled contexts drop it
+ * on release ({@code unrouteAll}). Bytes saved are estimated from the response
+ * sizes seen so far: the same URL when it was loaded earlier, otherwise the mean
+ * size of that resource type. Per-URL sizes are kept in {@code ui.network.sizes}
+ * (default test-output/network-sizes.properties), so a run with
+ * {@code -Dui.network=off} teaches later runs what the blocked files weigh.
+ */
+public final class NetworkPolicy {
+
+    public static final String DEFAULT = Config.setting("ui.network", "lean");
+    private static final Path SIZES_FILE =
+            Path.of(Config.setting("ui.network.sizes", "test-output/network-sizes.properties"));
+
+    private static final Pattern THIRD_PARTY = Pattern.compile(
+            "https?://([^/]*\\.)?(google-analytics|googletagmanager|doubleclick|maps\\.googleapis|maps\\.gstatic"
+                    + "|fonts\\.googleapis|fonts\\.gstatic|facebook|hotjar)\\.[^/]+/.*");
+
+    private final String name;
+    private final boolean allowlist;
+    private final Set<String> types;
+    private final List<Pattern> urls;
+
+    private NetworkPolicy(String name, boolean allowlist, Set<String> types, List<Pattern> urls) {
+        this.name = name;
+        this.allowlist = allowlist;
+        this.types = types;
+        this.urls = urls;
+    }
+
+    /** Passes only requests whose type is in {@code types} and whose URL matches one of {@code urls} (if any). */
+    public static NetworkPolicy allow(String name, Set<String> types, Pattern... urls) {
+        return new NetworkPolicy(name, true, Set.copyOf(types), List.of(urls));
+    }
+
+    /** Aborts requests whose type is in {@code types} or whose URL matches one of {@code urls}. */
+    public static NetworkPolicy deny(String name, Set<String> types, Pattern... urls) {
+        return new NetworkPolicy(name, false, Set.copyOf(types), List.of(urls));
+    }
+
+    /** Preset by name (case-insensitive). */
+    public static NetworkPolicy preset(String name) {
+        return switch (name.toLowerCase(Locale.ROOT)) {
+            case "off"    -> deny("off", Set.of());
+            case "lean"   -> deny("lean", Set.of("image", "media", "font"), THIRD_PARTY);
+            case "strict" -> allow("strict", Set.of("document", "script", "stylesheet", "xhr", "fetch"),
+                    Pattern.compile(Pattern.quote(BasePage.baseUrl()) + "(/.*)?"));
+            default -> throw new IllegalArgumentException("Unknown network preset: " + name + " (off|lean|strict)");
+        };
+    }
+
+    /** The preset named by {@code ui.network}. */
+    public static NetworkPolicy defaultPolicy() {
+        return preset(DEFAULT);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    boolean blocks(String type, String url) {
+        if (allowlist) {
+            return !types.contains(type) || (!urls.isEmpty() && urls.stream().noneMatch(p -> p.matcher(url).matches()));
+        }
+        return types.contains(type) || urls.stream().anyMatch(p -> p.matcher(url).matches());
+    }
+
+    /* ───────────────────────── per-test wiring ───────────────────────── */
+
+    /** Blocked requests of one test. */
+    public static final class Tally {
+        private int blocked;
+        private long bytes;
+        private int unknownSize;
+
+        public int blocked()     { return blocked; }
+        public long bytesSaved() { return bytes; }
+    }
+
+    /** Routes {@code context} through this policy; the returned tally counts what it blocks. */
+    public Tally apply(BrowserContext context) {
+        Tally tally = new Tally();
+        if (!allowlist && types.isEmpty() && urls.isEmpty()) return tally;       // "off" – no route at all
+        context.route("**/*", route -> {
+            Request r = route.request();
+            if (!blocks(r.resourceType(), r.url())) {
+                route.fallback();
+                return;
+            }
+            tally.blocked++;
+            long size = estimate(r.url(), r.resourceType());
+            if (size < 0) tally.unknownSize++;
+            else tally.bytes += size;
+            route.abort("blockedbyclient");
+        });
+        return tally;
+    }
+
+    /** Learns response sizes from {@code page} for later estimates. */
+    public static void observe(Page page) {
+        page.onResponse(NetworkPolicy::learn);
+    }
+
+    /* ───────────────────────── size estimates ───────────────────────── */
+
+    private static final Map<String, Long> SIZE_BY_URL = loadSizes();
+    private static final Map<String, LongAdder[]> SIZE_BY_TYPE = new ConcurrentHashMap<>();   // {count, bytes}
+
+    private static Map<String, Long> loadSizes() {
+        Map<String, Long> sizes = new ConcurrentHashMap<>();
+        if (!Files.exists(SIZES_FILE)) return sizes;
+        Properties p = new Properties();
+        try (Reader in = Files.newBufferedReader(SIZES_FILE)) {
+            p.load(in);
+            p.forEach((k, v) -> sizes.put((String) k, Long.parseLong((String) v)));
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("  [network] ignoring unreadable " + SIZES_FILE + ": " + e.getMessage());
+        }
+        return sizes;
+    }
+
+    /** Writes the per-URL sizes learned so far for the next run. */
+    public static void persist() {
+        if (SIZE_BY_URL.isEmpty()) return;
+        Properties p = new Properties();
+        SIZE_BY_URL.forEach((k, v) -> p.setProperty(k, Long.toString(v)));
+        try {
+            Files.createDirectories(SIZES_FILE.toAbsolutePath().getParent());
+            try (Writer out = Files.newBufferedWriter(SIZES_FILE)) {
+                p.store(out, "response sizes seen by UI tests (bytes)");
+            }
+        } catch (IOException e) {
+            System.err.println("  [network] cannot write " + SIZES_FILE + ": " + e.getMessage());
+        }
+    }
+
+    private static void learn(Response response) {
+        String length = response.headers().get("content-length");
+        if (length == null) return;
+        try {
+            long bytes = Long.parseLong(length.trim());
+            SIZE_BY_URL.put(response.url(), bytes);
+            LongAdder[] t = SIZE_BY_TYPE.computeIfAbsent(response.request().resourceType(),
+                    k -> new LongAdder[]{new LongAdder(), new LongAdder()});
+            t[0].increment();
+            t[1].add(bytes);
+        } catch (NumberFormatException ignored) {
+            // malformed header – nothing to learn
+        }
+    }
+
+    /** Known or mean size in bytes, -1 if this URL and type were never seen. */
+    private static long estimate(String url, String type) {
+        Long known = SIZE_BY_URL.get(url);
+        if (known != null) return known;
+        LongAdder[] t = SIZE_BY_TYPE.get(type);
+        return t == null || t[0].sum() == 0 ? -1 : t[1].sum() / t[0].sum();
+    }
+
+    /* ───────────────────────── reporting ───────────────────────── */
+
+    private record TestTally(String policy, int blocked, long bytes, int unknownSize) {}
+
+    private static final Map<String, TestTally> PER_TEST = new ConcurrentHashMap<>();
+
+    /** Keeps the tally of a finished test under {@code <Class>#<test>}. */
+    public void record(Class<?> testClass, String test, Tally tally) {
+        if (tally.blocked > 0) {
+            PER_TEST.put(testClass.getSimpleName() + "#" + test,
+                    new TestTally(name, tally.blocked, tally.bytes, tally.unknownSize));
+        }
+    }
+
+    /** Run totals plus the five tests that saved the most (empty when nothing was blocked). */
+    public static String report() {
+        if (PER_TEST.isEmpty()) return "";
+        long blocked = PER_TEST.values().stream().mapToLong(TestTally::blocked).sum();
+        long bytes   = PER_TEST.values().stream().mapToLong(TestTally::bytes).sum();
+        long unknown = PER_TEST.values().stream().mapToLong(TestTally::unknownSize).sum();
+        String top = PER_TEST.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, TestTally> e) -> e.getValue().bytes()).reversed()
+                        .thenComparing(Map.Entry::getKey))
+                .limit(5)
+                .map(e -> String.format("  [network] %-50s %-6s blocked %3d, ≈ %,d KB",
+                        e.getKey(), e.getValue().policy(), e.getValue().blocked(), e.getValue().bytes() / 1024))
+                .collect(Collectors.joining(System.lineSeparator()));
+        return String.format("[NETWORK] blocked %d requests in %d tests, ≈ %,d KB saved (%d of unknown size)%n%s",
+                blocked, PER_TEST.size(), bytes / 1024, unknown, top);
+    }
+}
@@ -0,0 +1,221 @@
+package ui.stub;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * HTML of the stand-in site. Markup keeps only what the page objects and
+ * tests rely on (ids, classes, button captions, routes); there is no
+ * external CSS, font or script so pages load without network access.
+ */
+final class SitePages {
+
+    private SitePages() {}
+
+    /* ───────────────────────── public site ───────────────────────── */
+
+    static String home() {
+        return layout("Restful-booker-platform demo", """
+                <nav class="navbar">
+                  <a class="navbar-brand" href="/">Shady Meadows B&amp;B</a>
+                  <a class="nav-link" href="#rooms">Rooms</a>
+                  <a class="nav-link" href="#booking">Booking</a>
+                  <a class="nav-link" href="/amenities">Amenities</a>
+                  <a class="nav-link" href="#location">Location</a>
+                  <a class="nav-link" href="#contact">Contact</a>
+                  <a class="nav-link" href="/admin">Admin</a>
+                </nav>
+                <section id="booking"><h2>Check Availability &amp; Book Your Stay</h2></section>
+                <section id="rooms">
+                  <h2>Our Rooms</h2>
+                  <div class="room"><h5>Single</h5><a class="btn btn-primary" href="/reservation/1">Book now</a></div>
+                  <div class="room"><h5>Double</h5><a class="btn btn-primary" href="/reservation/2">Book now</a></div>
+                  <div class="room"><h5>Suite</h5><a class="btn btn-primary" href="/reservation/3">Book now</a></div>
+                </section>
+                <section id="location"><h2>Our Location</h2></section>
+                <section id="contact">
+                  <div class="card-body p-4" id="contact-card">
+                    <h3 class="h4 mb-4">Send Us a Message</h3>
+                    <input id="name" class="form-control">
+                    <input id="email" class="form-control">
+                    <input id="phone" class="form-control">
+                    <input id="subject" class="form-control">
+                    <textarea id="description" class="form-control"></textarea>
+                    <button type="button" class="btn btn-primary" id="submitContact" disabled>Submit</button>
+                  </div>
+                </section>
+                <script>
+                  const ids = ['name', 'email', 'phone', 'subject', 'description'];
+                  const submit = document.getElementById('submitContact');
+                  const value = id => document.getElementById(id).value;
+                  const refresh = () => submit.disabled = !ids.every(id => value(id).trim().length > 0);
+                  ids.forEach(id => ['input', 'keyup'].forEach(e =>
+                      document.getElementById(id).addEventListener(e, refresh)));
+                  submit.addEventListener('click', async () => {
+                    const body = {};
+                    ids.forEach(id => body[id] = value(id));
+                    const r = await fetch('/api/message', {method: 'POST',
+                        headers: {'Content-Type': 'application/json'}, body: JSON.stringify(body)});
+                    if (!r.ok) return;
+                    const card = document.getElementById('contact-card');
+                    card.innerHTML = '';
+                    const h3 = document.createElement('h3');
+                    h3.className = 'h4 mb-4';
+                    h3.textContent = 'Thanks for getting in touch ' + body.name + '!';
+                    const p1 = document.createElement('p');
+                    p1.textContent = "We'll get back to you about";
+                    const p2 = document.createElement('p');
+                    p2.setAttribute('style', 'font-weight: bold;');
+                    p2.textContent = body.subject;
+                    const p3 = document.createElement('p');
+                    p3.textContent = 'as soon as possible.';
+                    card.append(h3, p1, p2, p3);
+                  });
+                </script>
+                """);
+    }
+
+    static String reservation(int roomId, String checkin, String checkout) {
+        return layout("Reservation", """
+                <main id="main">
+                  <div class="room-details">
+                    <h1>Room %s</h1>
+                    <div class="d-flex align-items-baseline mb-4"><span class="price">£%d</span><span> per night</span></div>
+                    <button type="button" class="btn btn-primary" id="doReservation">Reserve Now</button>
+                  </div>
+                  <div id="reservation-form" style="display: none">
+                    <input class="form-control room-firstname" name="firstname" placeholder="Firstname">
+                    <input class="form-control room-lastname" name="lastname" placeholder="Lastname">
+                    <input class="form-control room-email" name="email" placeholder="Email">
+                    <input class="form-control room-phone" name="phone" placeholder="Phone">
+                    <button type="button" class="btn btn-primary" id="submitReservation">Reserve Now</button>
+                    <button type="button" class="btn btn-secondary" id="cancelReservation">Cancel</button>
+                  </div>
+                </main>
+                <script>
+                  const roomId = %d, checkin = '%s', checkout = '%s';
+                  const form = document.getElementById('reservation-form');
+                  const field = c => document.querySelector('input.' + c).value;
+                  document.getElementById('doReservation').onclick = () => form.style.display = 'block';
+                  document.getElementById('cancelReservation').onclick = () => form.style.display = 'none';
+                  document.getElementById('submitReservation').onclick = async () => {
+                    if (checkin < new Date().toISOString().slice(0, 10)) {
+                      document.body.innerHTML = '<h2>Application error: a client-side exception has occurred '
+                          + '(see the browser console for more information).</h2>';
+                      return;
+                    }
+                    const r = await fetch('/api/booking', {method: 'POST',
+                        headers: {'Content-Type': 'application/json'},
+                        body: JSON.stringify({roomid: roomId, firstname: field('room-firstname'),
+                            lastname: field('room-lastname'), email: field('room-email'),
+                            phone: field('room-phone'), depositpaid: false,
+                            bookingdates: {checkin: checkin, checkout: checkout}})});
+                    if (r.status !== 201) return;
+                    const main = document.getElementById('main');
+                    main.innerHTML = '<div class="card-body"><h2>Booking Confirmed</h2>'
+                        + '<p>Your booking has been confirmed for the following dates:</p>'
+                        + '<p class="text-center pt-2"></p>'
+                        + '<a class="btn btn-primary" href="/">Return home</a></div>';
+                    main.querySelector('p.text-center').textContent = checkin + ' - ' + checkout;
+                  };
+                </script>
+                """.formatted(SiteStore.ROOMS.get(roomId), 100 + roomId * 50, roomId, checkin, checkout));
+    }
+
+    /* ───────────────────────── admin area ───────────────────────── */
+
+    static String login() {
+        return layout("Admin login", """
+                <form method="post" action="/admin/login">
+                  <h2>Login</h2>
+                  <input id="username" name="username" class="form-control">
+                  <input id="password" name="password" type="password" class="form-control">
+                  <button type="submit" class="btn btn-primary">Login</button>
+                </form>
+                """);
+    }
+
+    static String adminRooms() {
+        return admin("""
+                <h2>Rooms</h2>
+                <ul>%s</ul>
+                """.formatted(SiteStore.ROOMS.values().stream().sorted()
+                .map(r -> "<li>" + r + "</li>").collect(Collectors.joining())));
+    }
+
+    static String adminReport(List<SiteStore.Booking> bookings) {
+        return admin("""
+                <h2>Report</h2>
+                <div class="rbc-calendar">%s</div>
+                """.formatted(bookings.stream()
+                .map(b -> "<div class=\"rbc-event-content\">" + esc(b.guest()) + " - Room: "
+                        + SiteStore.ROOMS.get(b.roomId()) + "</div>")
+                .collect(Collectors.joining())));
+    }
+
+    static String adminBranding() {
+        return admin("<h2>Branding</h2>");
+    }
+
+    static String adminMessages(List<SiteStore.Message> messages) {
+        String rows = messages.stream().map(m -> """
+                <div id="message%d" class="row detail">
+                  <div class="col-sm-2"><p data-email="%s" data-phone="%s" data-subject="%s" data-body="%s">%s</p></div>
+                  <div class="col-sm-9"><p>%s</p></div>
+                </div>
+                """.formatted(m.id(), esc(m.email()), esc(m.phone()), esc(m.subject()),
+                esc(m.description()), esc(m.name()), esc(m.subject()))).collect(Collectors.joining());
+        return admin("""
+                <h2>Messages</h2>
+                %s
+                <script>
+                  document.querySelectorAll("div[id^='message'] div.col-sm-2 > p").forEach(p => p.onclick = () => {
+                    const modal = document.createElement('div');
+                    modal.className = 'ReactModal__Content';
+                    ['From: ' + p.textContent, 'Phone: ' + p.dataset.phone, 'Email: ' + p.dataset.email,
+                     p.dataset.subject, p.dataset.body].forEach(t => {
+                      const line = document.createElement('p');
+                      line.textContent = t;
+                      modal.append(line);
+                    });
+                    const close = document.createElement('button');
+                    close.className = 'btn btn-outline-primary';
+                    close.textContent = 'Close';
+                    close.onclick = () => modal.remove();
+                    modal.append(close);
+                    document.body.append(modal);
+                  });
+                </script>
+                """.formatted(rows));
+    }
+
+    static String notFound() {
+        return layout("404", "<h1>404</h1><p>This page could not be found.</p>");
+    }
+
+    /* ───────────────────────── helpers ───────────────────────── */
+
+    private static String admin(String content) {
+        return layout("Admin", """
+                <nav class="navbar">
+                  <a class="nav-link" href="/admin/rooms">Rooms</a>
+                  <a class="nav-link" href="/admin/report">Report</a>
+                  <a class="nav-link" href="/admin/branding">Branding</a>
+                  <a class="nav-link" href="/admin/message">Messages</a>
+                  <a class="nav-link" id="frontPageLink" href="/">Front Page</a>
+                  <form method="post" action="/admin/logout"><button type="submit" class="btn">Logout</button></form>
+                </nav>
+                """ + content);
+    }
+
+    private static String layout(String title, String body) {
+        return "<!DOCTYPE html><html lang=\"en\"><head><meta charset=\"utf-8\"><title>" + title
+                + "</title></head><body>" + body + "</body></html>";
+    }
+
+    static String esc(String s) {
+        if (s == null) return "";
+        return s.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;")
+                .replace("\"", "&quot;").replace("'", "&#39;");
+    }
+}
@@ -0,0 +1,71 @@
+package ui.stub;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** Concurrent in-memory data behind {@link SiteStub}: rooms, bookings, guest messages and admin tokens. */
+public final class SiteStore {
+
+    public record Booking(int id, int roomId, String firstname, String lastname,
+                          String email, String phone, String checkin, String checkout) {
+        public String guest() { return firstname + " " + lastname; }
+    }
+
+    public record Message(int id, String name, String email, String phone,
+                          String subject, String description) {}
+
+    /**
+     * Room id → room name shown in Admin → Report. The live site's Suite
+     * mismatch (booked as 104, reported as 103) is not reproduced; the test that
+     * documents it skips itself against the stand-in.
+     */
+    public static final Map<Integer, String> ROOMS = Map.of(1, "101", 2, "102", 3, "103");
+
+    private final Map<Integer, Booking> bookings = new ConcurrentHashMap<>();
+    private final List<Message> messages = new CopyOnWriteArrayList<>();
+    private final Set<String> tokens = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger bookingIds = new AtomicInteger();
+    private final AtomicInteger messageIds = new AtomicInteger();
+
+    /** Stores the booking and, like the real platform, notifies the admin inbox. */
+    public Booking book(int roomId, String first, String last, String email, String phone,
+                        String checkin, String checkout) {
+        if (!ROOMS.containsKey(roomId)) throw new IllegalArgumentException("unknown room " + roomId);
+        Booking b = new Booking(bookingIds.incrementAndGet(), roomId, first, last, email, phone, checkin, checkout);
+        bookings.put(b.id(), b);
+        message(b.guest(), email, phone, "You have a new booking!",
+                "You have a new booking from " + b.guest() + ". They have booked a room for the following dates: "
+                        + checkin + " to " + checkout);
+        return b;
+    }
+
+    public Booking booking(int id)        { return bookings.get(id); }
+    public boolean cancel(int id)         { return bookings.remove(id) != null; }
+
+    public List<Booking> bookings() {
+        return bookings.values().stream().sorted((a, b) -> Integer.compare(a.id(), b.id())).toList();
+    }
+
+    public Message message(String name, String email, String phone, String subject, String description) {
+        Message m = new Message(messageIds.incrementAndGet(), name, email, phone, subject, description);
+        messages.add(m);
+        return m;
+    }
+
+    public List<Message> messages()       { return List.copyOf(messages); }
+
+    public String login(String user, String pass) {
+        if (!"admin".equals(user) || !"password".equals(pass)) return null;
+        String token = UUID.randomUUID().toString();
+        tokens.add(token);
+        return token;
+    }
+
+    public boolean valid(String token)    { return token != null && tokens.contains(token); }
+    public void logout(String token)      { if (token != null) tokens.remove(token); }
+}
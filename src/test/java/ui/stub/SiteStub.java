@@ -0,0 +1,269 @@
+package ui.stub;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import utils.Config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local stand-in for https://automationintesting.online used for hermetic UI runs.
+ *
+ * Pages:  /, /reservation/{room}?checkin&checkout, /admin, /admin/{rooms|report|branding|message}
+ *         (everything else, e.g. /admin/update or /amenities, answers 404).
+ * API:    POST /api/booking → 201, GET|DELETE /api/booking/{id}, POST /api/message,
+ *         POST /api/auth/login → token cookie (the admin form posts to /admin/login).
+ *
+ * Enable with {@code -Dui.stub=true}; while it runs, {@code ui.baseUrl} points at it,
+ * so page objects resolve their base URL to it without knowing about the stub.
+ */
+public final class SiteStub {
+
+    static {
+        // TCP_NODELAY, as in BookerStub – whichever stub starts first sets it for the JVM
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private static SiteStub shared;
+    private static String replacedBaseUrl;          // ui.baseUrl before the shared instance took it over
+
+    private final HttpServer server;
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final SiteStore store = new SiteStore();
+
+    private SiteStub(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(workers);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /** The run-wide instance, started on first use ({@code ui.stub.port}, 0 = any free port). */
+    public static synchronized SiteStub shared() {
+        if (shared == null) {
+            try {
+                shared = new SiteStub(Config.intSetting("ui.stub.port", 0));
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot start booking-site stub", e);
+            }
+            replacedBaseUrl = System.setProperty("ui.baseUrl", shared.url());
+            System.out.println("  [stub] booking site stand-in at " + shared.url());
+        }
+        return shared;
+    }
+
+    /** Stops the shared instance if it was started. */
+    public static synchronized void stopShared() {
+        if (shared != null) {
+            shared.server.stop(0);
+            shared.workers.shutdownNow();
+            shared = null;
+            if (replacedBaseUrl == null) System.clearProperty("ui.baseUrl");
+            else System.setProperty("ui.baseUrl", replacedBaseUrl);
+        }
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public SiteStore store() {
+        return store;
+    }
+
+    /* ───────────────────────── routing ───────────────────────── */
+
+    private void handle(HttpExchange ex) throws IOException {
+        String path = ex.getRequestURI().getPath();
+        String method = ex.getRequestMethod();
+        try {
+            if (path.startsWith("/api/")) {
+                api(ex, method, path);
+            } else if ("GET".equals(method)) {
+                page(ex, path);
+            } else if ("POST".equals(method) && "/admin/login".equals(path)) {
+                Map<String, String> form = parse(new String(body(ex), StandardCharsets.UTF_8));
+                String token = store.login(form.get("username"), form.get("password"));
+                if (token == null) html(ex, 200, SitePages.login());
+                else redirect(ex, "/admin/rooms", "token=" + token + "; Path=/; HttpOnly");
+            } else if ("POST".equals(method) && "/admin/logout".equals(path)) {
+                store.logout(token(ex));
+                redirect(ex, "/", "token=; Path=/; Max-Age=0");
+            } else {
+                html(ex, 404, SitePages.notFound());
+            }
+        } catch (RuntimeException e) {
+            text(ex, 500, "Internal Server Error");
+        }
+    }
+
+    private void page(HttpExchange ex, String path) throws IOException {
+        if ("/".equals(path)) {
+            html(ex, 200, SitePages.home());
+        } else if (path.matches("/reservation/\\d+")) {
+            int room = Integer.parseInt(path.substring("/reservation/".length()));
+            if (!SiteStore.ROOMS.containsKey(room)) { html(ex, 404, SitePages.notFound()); return; }
+            Map<String, String> q = parse(ex.getRequestURI().getRawQuery());
+            LocalDate in = date(q.get("checkin"), LocalDate.now().plusDays(1));
+            html(ex, 200, SitePages.reservation(room, in.toString(), date(q.get("checkout"), in.plusDays(1)).toString()));
+        } else if (path.equals("/admin") || path.startsWith("/admin/")) {
+            boolean loggedIn = store.valid(token(ex));
+            switch (path) {
+                case "/admin" -> {
+                    if (loggedIn) redirect(ex, "/admin/rooms", null);
+                    else html(ex, 200, SitePages.login());
+                }
+                case "/admin/rooms"    -> html(ex, 200, loggedIn ? SitePages.adminRooms() : SitePages.login());
+                case "/admin/report"   -> html(ex, 200, loggedIn ? SitePages.adminReport(store.bookings()) : SitePages.login());
+                case "/admin/branding" -> html(ex, 200, loggedIn ? SitePages.adminBranding() : SitePages.login());
+                case "/admin/message"  -> html(ex, 200, loggedIn ? SitePages.adminMessages(store.messages()) : SitePages.login());
+                default -> html(ex, 404, SitePages.notFound());
+            }
+        } else {
+            html(ex, 404, SitePages.notFound());
+        }
+    }
+
+    private void api(HttpExchange ex, String method, String path) throws IOException {
+        if ("POST".equals(method) && "/api/auth/login".equals(path)) {
+            JsonObject in = json(ex);
+            String token = store.login(str(in, "username"), str(in, "password"));
+            if (token == null) { text(ex, 401, "Unauthorized"); return; }
+            ex.getResponseHeaders().add("Set-Cookie", "token=" + token + "; Path=/; HttpOnly");
+            JsonObject out = new JsonObject();
+            out.addProperty("token", token);
+            json(ex, 200, out);
+        } else if ("POST".equals(method) && "/api/booking".equals(path)) {
+            JsonObject in = json(ex);
+            JsonObject dates = in.getAsJsonObject("bookingdates");
+            SiteStore.Booking b = store.book(in.get("roomid").getAsInt(), str(in, "firstname"), str(in, "lastname"),
+                    str(in, "email"), str(in, "phone"), str(dates, "checkin"), str(dates, "checkout"));
+            json(ex, 201, booking(b));
+        } else if (path.matches("/api/booking/\\d+")) {
+            int id = Integer.parseInt(path.substring("/api/booking/".length()));
+            SiteStore.Booking b = store.booking(id);
+            if ("GET".equals(method)) {
+                if (b == null) text(ex, 404, "Not Found");
+                else json(ex, 200, booking(b));
+            } else if ("DELETE".equals(method)) {
+                if (!store.valid(token(ex))) text(ex, 403, "Forbidden");
+                else if (!store.cancel(id)) text(ex, 404, "Not Found");
+                else text(ex, 202, "Accepted");
+            } else {
+                text(ex, 405, "Method Not Allowed");
+            }
+        } else if ("POST".equals(method) && "/api/message".equals(path)) {
+            JsonObject in = json(ex);
+            SiteStore.Message m = store.message(str(in, "name"), str(in, "email"), str(in, "phone"),
+                    str(in, "subject"), str(in, "description"));
+            JsonObject out = new JsonObject();
+            out.addProperty("messageid", m.id());
+            json(ex, 200, out);
+        } else {
+            text(ex, 404, "Not Found");
+        }
+    }
+
+    /* ───────────────────────── helpers ───────────────────────── */
+
+    private static JsonObject booking(SiteStore.Booking b) {
+        JsonObject dates = new JsonObject();
+        dates.addProperty("checkin", b.checkin());
+        dates.addProperty("checkout", b.checkout());
+        JsonObject o = new JsonObject();
+        o.addProperty("bookingid", b.id());
+        o.addProperty("roomid", b.roomId());
+        o.addProperty("firstname", b.firstname());
+        o.addProperty("lastname", b.lastname());
+        o.addProperty("depositpaid", false);
+        o.add("bookingdates", dates);
+        return o;
+    }
+
+    private static String token(HttpExchange ex) {
+        String cookie = ex.getRequestHeaders().getFirst("Cookie");
+        if (cookie == null) return null;
+        for (String part : cookie.split(";")) {
+            String p = part.trim();
+            if (p.startsWith("token=")) return p.substring(6);
+        }
+        return null;
+    }
+
+    private static LocalDate date(String s, LocalDate fallback) {
+        try {
+            return s == null ? fallback : LocalDate.parse(s);
+        } catch (RuntimeException e) {
+            return fallback;
+        }
+    }
+
+    private static String str(JsonObject o, String key) {
+        return o != null && o.has(key) && !o.get(key).isJsonNull() ? o.get(key).getAsString() : "";
+    }
+
+    private static Map<String, String> parse(String query) {
+        Map<String, String> out = new HashMap<>();
+        if (query == null || query.isEmpty()) return out;
+        for (String pair : query.split("&")) {
+            int eq = pair.indexOf('=');
+            if (eq < 0) continue;
+            out.put(URLDecoder.decode(pair.substring(0, eq), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8));
+        }
+        return out;
+    }
+
+    private static byte[] body(HttpExchange ex) throws IOException {
+        try (InputStream in = ex.getRequestBody()) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static JsonObject json(HttpExchange ex) throws IOException {
+        return JsonParser.parseString(new String(body(ex), StandardCharsets.UTF_8)).getAsJsonObject();
+    }
+
+    private static void redirect(HttpExchange ex, String location, String cookie) throws IOException {
+        ex.getResponseHeaders().set("Location", location);
+        if (cookie != null) ex.getResponseHeaders().add("Set-Cookie", cookie);
+        ex.sendResponseHeaders(303, -1);
+        ex.close();
+    }
+
+    private static void html(HttpExchange ex, int status, String html) throws IOException {
+        write(ex, status, "text/html; charset=utf-8", html);
+    }
+
+    private static void json(HttpExchange ex, int status, JsonObject body) throws IOException {
+        write(ex, status, "application/json", body.toString());
+    }
+
+    private static void text(HttpExchange ex, int status, String text) throws IOException {
+        write(ex, status, "text/plain; charset=utf-8", text);
+    }
+
+    private static void write(HttpExchange ex, int status, String type, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        ex.getResponseHeaders().set("Content-Type", type);
+        ex.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = ex.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}